@@ -1,5 +1,6 @@
 package horizon.SeRVe.auth.config;
 
+import horizon.SeRVe.common.security.jwt.JwtPrincipal;
 import horizon.SeRVe.common.security.jwt.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -36,9 +37,9 @@ public class AuthJwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = jwtTokenProvider.resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String email = jwtTokenProvider.getUserEmail(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        JwtPrincipal principal = token != null ? jwtTokenProvider.verify(token).orElse(null) : null;
+        if (principal != null) {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(principal.email());
             UsernamePasswordAuthenticationToken auth =
                     new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(auth);
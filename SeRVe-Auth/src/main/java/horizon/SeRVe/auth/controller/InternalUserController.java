@@ -3,10 +3,13 @@ package horizon.SeRVe.auth.controller;
 import horizon.SeRVe.auth.entity.User;
 import horizon.SeRVe.auth.repository.UserRepository;
 import horizon.SeRVe.common.dto.feign.UserInfoResponse;
+import horizon.SeRVe.common.feign.UserEmailLookup;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 서비스 간 통신 전용 내부 API.
  * Team/Core 서비스가 Feign으로 호출합니다.
@@ -30,6 +33,24 @@ public class InternalUserController {
                 .build());
     }
 
+    // 여러 사용자 일괄 조회 (멤버 목록 등 N+1 Feign 호출 방지) - 존재하는 사용자만 반환
+    // IN 절 크기를 제한하기 위해 중복 제거 후 MAX_BATCH_SIZE를 넘으면 거부 (호출자는 UserEmailLookup으로 나눠 호출)
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserInfoResponse>> getUserInfos(@RequestBody List<String> userIds) {
+        List<String> distinctIds = userIds.stream().distinct().toList();
+        if (distinctIds.size() > UserEmailLookup.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + UserEmailLookup.MAX_BATCH_SIZE + "명입니다.");
+        }
+        List<UserInfoResponse> users = userRepository.findAllById(distinctIds).stream()
+                .map(user -> UserInfoResponse.builder()
+                        .userId(user.getUserId())
+                        .email(user.getEmail())
+                        .publicKey(user.getPublicKey())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(users);
+    }
+
     @GetMapping("/by-email/{email}")
     public ResponseEntity<UserInfoResponse> getUserByEmail(@PathVariable String email) {
         User user = userRepository.findByEmail(email)
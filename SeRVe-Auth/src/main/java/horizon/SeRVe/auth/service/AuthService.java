@@ -22,6 +22,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final TeamServiceClient teamServiceClient;
+    private final CachingUserDetailsService userDetailsService;
 
     // 1. 회원가입
     @Transactional
@@ -39,6 +40,7 @@ public class AuthService {
                 .build();
 
         userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
     }
 
     // 2. 로그인
@@ -68,6 +70,7 @@ public class AuthService {
 
         String newEncodedPassword = passwordEncoder.encode(req.getNewPassword());
         user.updatePassword(newEncodedPassword, req.getNewEncryptedPrivateKey());
+        userDetailsService.evict(user.getEmail());
     }
 
     // 4. 회원 탈퇴
@@ -76,6 +79,7 @@ public class AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 정보가 없습니다."));
         userRepository.delete(user);
+        userDetailsService.evict(user.getEmail());
     }
 
     // 5. 공개키 조회 (멤버 초대 시 사용)
@@ -97,7 +101,9 @@ public class AuthService {
         }
 
         // 로봇용 토큰 발급 (userId 자리에 nodeId, email 자리에 serialNumber 사용)
-        String accessToken = jwtTokenProvider.createToken(robot.getNodeId(), robot.getSerialNumber());
+        // principalType=EDGE_NODE와 소속 teamId를 claim으로 담아 Core가 원격 조회 없이 로봇 권한을 판정
+        String accessToken = jwtTokenProvider.createEdgeNodeToken(
+                robot.getNodeId(), robot.getSerialNumber(), robot.getTeamId());
 
         return LoginResponse.builder()
                 .accessToken(accessToken)
@@ -0,0 +1,63 @@
+package horizon.SeRVe.auth.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import horizon.SeRVe.common.cache.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * JWT 필터가 요청마다 principal을 다시 만들 때 쓰는 UserDetails를 짧게 캐싱하는 UserDetailsService.
+ *
+ * 인증된 Auth 요청이 매번 users 테이블을 조회하지 않도록 이메일 기준으로 ttl 동안 유지합니다.
+ * - 비밀번호 재설정/탈퇴/가입 시 AuthService가 evict로 즉시 무효화
+ * - 존재하지 않는 사용자(UsernameNotFoundException)는 캐싱하지 않음
+ */
+@Primary
+@Service
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final CustomUserDetailsService delegate;
+    private final AsyncCache<String, UserDetails> users;
+
+    public CachingUserDetailsService(CustomUserDetailsService delegate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${security.user-details-cache.ttl:PT60S}") Duration ttl,
+                                     @Value("${security.user-details-cache.maximum-size:10000}") long maximumSize) {
+        this.delegate = delegate;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, users.synchronous(), "auth.user-details");
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return SingleFlight.get(users, email, delegate::loadUserByUsername);
+    }
+
+    // 사용자 정보 변경 시 캐시 무효화 - 트랜잭션 중이면 커밋 후 한 번 더 비워 커밋 전 값이 다시 캐싱되는 것을 막음
+    public void evict(String email) {
+        users.synchronous().invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.synchronous().invalidate(email);
+                }
+            });
+        }
+    }
+}
@@ -37,6 +37,9 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private CachingUserDetailsService userDetailsService;
+
     @Test
     @DisplayName("회원가입 성공 테스트")
     void signup_Success() {
@@ -52,6 +55,7 @@ class AuthServiceTest {
 
         // then
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userDetailsService).evict("test@example.com");
     }
 
     @Test
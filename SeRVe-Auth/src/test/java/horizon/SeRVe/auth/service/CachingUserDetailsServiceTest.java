@@ -0,0 +1,72 @@
+package horizon.SeRVe.auth.service;
+
+import horizon.SeRVe.auth.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserDetailsServiceTest {
+
+    @Mock private CustomUserDetailsService delegate;
+
+    private CachingUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new CachingUserDetailsService(delegate, new SimpleMeterRegistry(),
+                Duration.ofSeconds(60), 100);
+    }
+
+    private static User user(String hashedPassword) {
+        return User.builder()
+                .userId("user-1")
+                .email("user@serve.io")
+                .hashedPassword(hashedPassword)
+                .publicKey("pubKey")
+                .encryptedPrivateKey("encPrivKey")
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 이메일은 DB를 한 번만 조회하고, evict 후에는 다시 조회")
+    void loadUserByUsername_CachesUntilEvicted() {
+        // given
+        given(delegate.loadUserByUsername("user@serve.io")).willReturn(user("old"), user("new"));
+
+        // when
+        userDetailsService.loadUserByUsername("user@serve.io");
+        String cached = userDetailsService.loadUserByUsername("user@serve.io").getPassword();
+        userDetailsService.evict("user@serve.io");
+        String reloaded = userDetailsService.loadUserByUsername("user@serve.io").getPassword();
+
+        // then
+        assertEquals("old", cached);
+        assertEquals("new", reloaded);
+        verify(delegate, times(2)).loadUserByUsername("user@serve.io");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐싱하지 않음")
+    void loadUserByUsername_DoesNotCacheMissingUser() {
+        // given
+        given(delegate.loadUserByUsername("ghost@serve.io"))
+                .willThrow(new UsernameNotFoundException("사용자를 찾을 수 없습니다: ghost@serve.io"));
+
+        // when & then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost@serve.io"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost@serve.io"));
+        verify(delegate, times(2)).loadUserByUsername("ghost@serve.io");
+    }
+}
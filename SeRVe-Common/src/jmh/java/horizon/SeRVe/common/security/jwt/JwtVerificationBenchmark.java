@@ -0,0 +1,67 @@
+package horizon.SeRVe.common.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용 측정.
+ *
+ * - legacyTripleParse: 기존 필터 경로 (validateToken + getUserEmail + getUserId, 매번 파서 생성 + HMAC 검증 3회)
+ * - singleParse: 파싱/서명 검증 1회 (캐시 미스에 해당)
+ * - cachedVerify: 같은 토큰의 반복 요청 (캐시 적중)
+ *
+ * 실행: ./gradlew :SeRVe-Common:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtTokenProvider provider;
+    private Key key;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidityInMilliseconds", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "verifiedTokenCacheSize", 10_000L);
+        provider.init();
+
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = provider.createToken("user-1", "user@serve.io");
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        String email = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getSubject();
+        String userId = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().get("userId", String.class);
+        return email + userId;
+    }
+
+    @Benchmark
+    public Authentication singleParse() {
+        return provider.getAuthentication(provider.parse(token).principal());
+    }
+
+    @Benchmark
+    public Authentication cachedVerify() {
+        return provider.getAuthentication(provider.verify(token).orElseThrow());
+    }
+}
@@ -0,0 +1,68 @@
+package horizon.SeRVe.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Caffeine AsyncCache에서 같은 키의 동시 미스를 한 번만 로드하는 read-through 헬퍼.
+ *
+ * cache.get(key, loader)는 로더를 ConcurrentHashMap.compute의 bin 모니터 안에서 실행하므로,
+ * 로더가 I/O를 기다리는 동안 가상 스레드가 캐리어에 고정됩니다. 여기서는 미완료 future를 putIfAbsent로
+ * 먼저 등록하고, 등록에 성공한 호출자만 모니터 밖(자기 스레드)에서 로드하며 나머지는 같은 future를 기다립니다.
+ * 예외로 끝난 future는 Caffeine이 캐시에서 제거하므로 실패는 캐싱되지 않습니다.
+ */
+public final class SingleFlight {
+
+    private SingleFlight() {
+    }
+
+    // 동기 로더: 결과를 기다려 반환, 로더의 예외는 그대로 다시 던짐
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        return join(getAsync(cache, key, k -> CompletableFuture.completedFuture(loader.apply(k))));
+    }
+
+    // 비동기 로더: 진행 중인 로드가 있으면 그 future를 반환
+    public static <K, V> CompletableFuture<V> getAsync(AsyncCache<K, V> cache, K key,
+                                                       Function<? super K, ? extends CompletableFuture<? extends V>> loader) {
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = cache.asMap().putIfAbsent(key, loading);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            loader.apply(key).whenComplete((value, failure) -> {
+                if (failure != null) {
+                    loading.completeExceptionally(failure);
+                } else {
+                    loading.complete(value);
+                }
+            });
+        } catch (Throwable t) {
+            loading.completeExceptionally(t);
+        }
+        return loading;
+    }
+
+    // CompletionException을 벗겨 원래 예외(FeignException, UsernameNotFoundException 등)를 던짐
+    public static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
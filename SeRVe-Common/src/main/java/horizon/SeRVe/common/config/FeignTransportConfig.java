@@ -0,0 +1,74 @@
+package horizon.SeRVe.common.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.routing.RoutingSupport;
+import org.apache.hc.core5.http.HttpHost;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 서비스 간 Feign 호출용 커넥션 풀 설정 (Auth/Team/Core 공통).
+ *
+ * feign-hc5가 클래스패스에 있으므로 Spring Cloud OpenFeign이 keep-alive 커넥션을 재사용하는
+ * 풀링 Apache HttpClient 5를 Feign Client로 사용합니다.
+ * 전체 한도/기본 라우트 한도/TTL은 spring.cloud.openfeign.httpclient.*, 타임아웃은 spring.cloud.openfeign.client.config.*.
+ *
+ * 여기서는 다음을 추가합니다.
+ * - 대상 서비스별 라우트 한도: service.{name}.url + service.{name}.max-connections
+ * - 풀 메트릭: httpcomponents.httpclient.pool.* (httpclient=feign 태그)
+ *
+ * http2client.enabled=true, httpclient.hc5.enabled=false로 JDK HttpClient(HTTP/2)로 전환하면 풀 빈이 없어 적용되지 않습니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(PoolingHttpClientConnectionManager.class)
+public class FeignTransportConfig {
+
+    @Bean
+    public SmartInitializingSingleton feignRouteLimits(ObjectProvider<PoolingHttpClientConnectionManager> connectionManager,
+                                                       Environment environment) {
+        return () -> connectionManager.ifAvailable(manager -> applyRouteLimits(manager, environment));
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<PoolingHttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(manager, "feign").bindTo(registry));
+    }
+
+    static void applyRouteLimits(PoolingHttpClientConnectionManager manager, Environment environment) {
+        Map<String, ServiceRoute> routes = Binder.get(environment)
+                .bind("service", Bindable.mapOf(String.class, ServiceRoute.class))
+                .orElse(Map.of());
+        routes.forEach((name, route) -> {
+            if (route.url() == null || route.maxConnections() == null) {
+                return;
+            }
+            manager.setMaxPerRoute(toRoute(route.url()), route.maxConnections());
+            log.info("Feign 커넥션 풀 라우트 한도: {} ({}) = {}", name, route.url(), route.maxConnections());
+        });
+    }
+
+    // HttpClient가 요청 시 계산하는 라우트와 같은 키 (스킴 기본 포트 보정, 프록시 없음)
+    static HttpRoute toRoute(String url) {
+        HttpHost target = RoutingSupport.normalize(HttpHost.create(URI.create(url)), DefaultSchemePortResolver.INSTANCE);
+        return new HttpRoute(target, null, "https".equalsIgnoreCase(target.getSchemeName()));
+    }
+
+    record ServiceRoute(String url, Integer maxConnections) {
+    }
+}
@@ -0,0 +1,20 @@
+package horizon.SeRVe.common.dto.feign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 팀 접근 판정 (Team 내부 API 한 번으로 팀 존재 + 주체 유형 + 멤버 역할)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamAccessResponse {
+    public static final String USER = "USER";
+    public static final String EDGE_NODE = "EDGE_NODE";
+
+    private boolean teamExists;
+    private String principalType; // "USER"(팀 멤버) / "EDGE_NODE"(팀에 등록된 로봇) / null(팀과 무관)
+    private String role; // USER인 경우 "ADMIN" or "MEMBER", 그 외 null
+}
@@ -0,0 +1,51 @@
+package horizon.SeRVe.common.feign;
+
+import horizon.SeRVe.common.dto.feign.UserInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * userId → email 일괄 조회 (Auth POST /internal/users/batch).
+ *
+ * 중복을 제거한 뒤 MAX_BATCH_SIZE 단위로 나눠 호출합니다 (Auth가 그보다 큰 요청은 거부).
+ * 응답에 없는 사용자, 이메일이 없는 사용자는 맵에서 빠지며 호출자가 기본값("Unknown" 등)으로 표시합니다.
+ * Auth 호출이 실패하면 경고 로그를 남기고 빈 맵을 반환해 목록 조회 자체는 실패시키지 않습니다.
+ */
+@Slf4j
+public final class UserEmailLookup {
+
+    // 일괄 조회 1회당 최대 사용자 수 (Auth InternalUserController와 공유)
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private UserEmailLookup() {
+    }
+
+    // batchLookup: 각 서비스의 AuthServiceClient::getUserInfos
+    public static Map<String, String> findEmails(Function<List<String>, List<UserInfoResponse>> batchLookup,
+                                                 Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> distinctIds = userIds.stream().distinct().toList();
+        Map<String, String> emails = new HashMap<>();
+        try {
+            for (int from = 0; from < distinctIds.size(); from += MAX_BATCH_SIZE) {
+                List<String> chunk = distinctIds.subList(from, Math.min(from + MAX_BATCH_SIZE, distinctIds.size()));
+                for (UserInfoResponse info : batchLookup.apply(chunk)) {
+                    if (info.getUserId() != null && info.getEmail() != null) {
+                        emails.put(info.getUserId(), info.getEmail());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("사용자 이메일 일괄 조회 실패 ({}명)", distinctIds.size(), e);
+            return Map.of();
+        }
+        return emails;
+    }
+}
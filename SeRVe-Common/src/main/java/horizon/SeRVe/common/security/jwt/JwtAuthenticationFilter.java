@@ -5,7 +5,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,9 +21,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = jwtTokenProvider.resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        // 검증과 claims 추출을 한 번에 (토큰당 파싱 1회, 이후 요청은 캐시)
+        if (token != null) {
+            jwtTokenProvider.verify(token).ifPresent(principal ->
+                    SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(principal)));
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,32 @@
+package horizon.SeRVe.common.security.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+/**
+ * JWT claims로 식별한 요청 주체 (JwtTokenProvider.getAuthentication의 details).
+ *
+ * principalType: USER(사람) / EDGE_NODE(로봇), 이 claim 도입 이전에 발급된 토큰이면 null
+ * teamId: EDGE_NODE 토큰에 묶인 팀 (로봇 로그인 시점의 소속 팀), USER는 null
+ * 로봇 요청은 teamId만으로 팀 읽기 권한을 판정할 수 있어 Auth/Team 조회가 필요 없습니다.
+ */
+public record JwtPrincipal(String userId, String email, String principalType, String teamId) {
+
+    public static final String USER = "USER";
+    public static final String EDGE_NODE = "EDGE_NODE";
+
+    public boolean isEdgeNode() {
+        return EDGE_NODE.equals(principalType);
+    }
+
+    // 현재 요청의 JWT 주체 (JWT로 인증되지 않은 요청이면 empty)
+    public static Optional<JwtPrincipal> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+}
@@ -1,8 +1,12 @@
 package horizon.SeRVe.common.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -13,10 +17,15 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증 (Common 모듈용)
@@ -24,7 +33,11 @@ import java.util.Map;
  * 기존 모놀리식 버전과의 차이점:
  * - UserDetailsService 의존성 제거
  * - getAuthentication()이 DB 조회 없이 JWT claims만으로 Authentication 생성
- * - principal = userId (String), details = {email, userId}
+ * - principal = userId (String), details = JwtPrincipal{userId, email, principalType, teamId}
+ *
+ * 토큰은 한 번만 파싱/서명 검증해 JwtPrincipal로 만들고, 검증된 토큰은 SHA-256 해시를 키로
+ * 토큰의 exp 시각까지 캐싱합니다 (같은 토큰으로 반복되는 요청은 HMAC 검증 없이 처리).
+ * 검증에 실패한 토큰은 캐싱하지 않습니다.
  *
  * Auth 모듈에서는 이 클래스를 사용하되, SecurityConfig에서
  * AuthJwtAuthenticationFilter를 통해 full UserDetails를 로드합니다.
@@ -39,19 +52,64 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:86400000}") // 24시간
     private long tokenValidityInMilliseconds;
 
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String PRINCIPAL_TYPE_CLAIM = "principalType";
+    private static final String TEAM_ID_CLAIM = "teamId";
+
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long verifiedTokenCacheSize;
+
     private Key key;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAt() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(tokenHash, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    // 토큰 생성
+    // 사람(User) 토큰 생성
     public String createToken(String userId, String email) {
         Claims claims = Jwts.claims().setSubject(email);
-        claims.put("userId", userId);
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(PRINCIPAL_TYPE_CLAIM, JwtPrincipal.USER);
+        return sign(claims);
+    }
+
+    // 로봇(EdgeNode) 토큰 생성 (userId 자리에 nodeId, subject에 serialNumber, 소속 팀을 teamId claim으로 묶음)
+    public String createEdgeNodeToken(String nodeId, String serialNumber, String teamId) {
+        Claims claims = Jwts.claims().setSubject(serialNumber);
+        claims.put(USER_ID_CLAIM, nodeId);
+        claims.put(PRINCIPAL_TYPE_CLAIM, JwtPrincipal.EDGE_NODE);
+        claims.put(TEAM_ID_CLAIM, teamId);
+        return sign(claims);
+    }
 
+    private String sign(Claims claims) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
 
@@ -67,33 +125,38 @@ public class JwtTokenProvider {
      * 인증 정보 조회 (DB 조회 없이 JWT claims만 사용)
      *
      * principal = userId (String)
-     * details = Map{email, userId}
+     * details = JwtPrincipal{userId, email, principalType, teamId}
      *
      * Team/Core 서비스에서는 이 메서드를 그대로 사용합니다.
      * Auth 서비스에서는 AuthJwtAuthenticationFilter가 이 메서드 대신
      * UserDetailsService를 통해 full User 엔티티를 로드합니다.
      */
     public Authentication getAuthentication(String token) {
-        String email = getUserEmail(token);
-        String userId = getUserId(token);
+        return getAuthentication(verify(token)
+                .orElseThrow(() -> new JwtException("유효하지 않은 JWT 토큰입니다.")));
+    }
 
+    // 이미 검증된 주체로 Authentication 생성 (필터에서 verify 결과를 재사용)
+    public Authentication getAuthentication(JwtPrincipal principal) {
         List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
         UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(userId, null, authorities);
-        auth.setDetails(Map.of("email", email, "userId", userId));
+                new UsernamePasswordAuthenticationToken(principal.userId(), null, authorities);
+        auth.setDetails(principal);
         return auth;
     }
 
     // 토큰에서 이메일 추출
     public String getUserEmail(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return getAuthenticatedPrincipal(token).email();
     }
 
     // 토큰에서 userId 추출
     public String getUserId(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().get("userId", String.class);
+        return getAuthenticatedPrincipal(token).userId();
+    }
+
+    private JwtPrincipal getAuthenticatedPrincipal(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("유효하지 않은 JWT 토큰입니다."));
     }
 
     // 헤더에서 토큰 추출
@@ -107,9 +170,18 @@ public class JwtTokenProvider {
 
     // 유효성 검증
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * 토큰 검증 + claims 추출 (요청당 한 번 호출)
+     *
+     * 캐시에 있으면 서명 검증 없이 반환하고, 없으면 파싱/검증 후 exp까지 캐싱합니다.
+     * 서명 불일치/만료 등 유효하지 않은 토큰이면 empty.
+     */
+    public Optional<JwtPrincipal> verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(verifiedTokens.get(hash(token), tokenHash -> parse(token)).principal());
         } catch (SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -119,6 +191,34 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    // 캐시를 거치지 않는 1회 파싱/서명 검증 (실패 시 JwtException)
+    VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        JwtPrincipal principal = new JwtPrincipal(claims.get(USER_ID_CLAIM, String.class), claims.getSubject(),
+                claims.get(PRINCIPAL_TYPE_CLAIM, String.class), claims.get(TEAM_ID_CLAIM, String.class));
+        Date expiration = claims.getExpiration();
+        long expiresAt = expiration != null
+                ? expiration.getTime()
+                : System.currentTimeMillis() + tokenValidityInMilliseconds;
+        return new VerifiedToken(principal, expiresAt);
+    }
+
+    // 캐시 키 - 원문 토큰 대신 SHA-256 해시를 보관
+    private static String hash(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record VerifiedToken(JwtPrincipal principal, long expiresAt) {
     }
 }
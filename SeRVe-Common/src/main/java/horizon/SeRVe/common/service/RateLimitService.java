@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Rate Limiting Service for Member Upload Protection
@@ -24,8 +25,8 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 public class RateLimitService {
 
-    // Key: userId, Value: List of upload timestamps
-    private final Map<String, List<LocalDateTime>> uploadHistory = new ConcurrentHashMap<>();
+    // Key: userId, Value: upload timestamps (+ lock)
+    private final Map<String, UploadWindow> uploadHistory = new ConcurrentHashMap<>();
 
     // Rate limit configuration
     private static final int MAX_UPLOADS_PER_HOUR = 100;
@@ -42,10 +43,13 @@ public class RateLimitService {
         LocalDateTime windowStart = now.minusHours(TIME_WINDOW_HOURS);
 
         // 1. 해당 사용자의 업로드 기록 가져오기 (없으면 새로 생성)
-        List<LocalDateTime> userUploads = uploadHistory.computeIfAbsent(userId, k -> new ArrayList<>());
+        UploadWindow window = uploadHistory.computeIfAbsent(userId, k -> new UploadWindow());
+        List<LocalDateTime> userUploads = window.timestamps;
 
         // 2. 시간 윈도우 밖의 오래된 기록 제거 (메모리 절약)
-        synchronized (userUploads) {
+        // synchronized 대신 ReentrantLock - 가상 스레드가 대기 중에 캐리어 스레드를 고정(pinning)하지 않음
+        window.lock.lock();
+        try {
             userUploads.removeIf(timestamp -> timestamp.isBefore(windowStart));
 
             // 3. Rate Limit 체크
@@ -60,6 +64,8 @@ public class RateLimitService {
             // 4. 현재 업로드 기록 추가
             userUploads.add(now);
             log.debug("Upload recorded for user: {}. Total uploads in last hour: {}", userId, userUploads.size());
+        } finally {
+            window.lock.unlock();
         }
     }
 
@@ -84,16 +90,24 @@ public class RateLimitService {
      */
     public int getCurrentUploadCount(String userId) {
         LocalDateTime windowStart = LocalDateTime.now().minusHours(TIME_WINDOW_HOURS);
-        List<LocalDateTime> userUploads = uploadHistory.get(userId);
+        UploadWindow window = uploadHistory.get(userId);
 
-        if (userUploads == null) {
+        if (window == null) {
             return 0;
         }
 
-        synchronized (userUploads) {
-            return (int) userUploads.stream()
+        window.lock.lock();
+        try {
+            return (int) window.timestamps.stream()
                     .filter(timestamp -> timestamp.isAfter(windowStart))
                     .count();
+        } finally {
+            window.lock.unlock();
         }
     }
+
+    private static final class UploadWindow {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<LocalDateTime> timestamps = new ArrayList<>();
+    }
 }
@@ -0,0 +1,31 @@
+package horizon.SeRVe.common.config;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeignTransportConfigTest {
+
+    @Test
+    @DisplayName("service.{name}.max-connections가 있는 대상 서비스만 라우트 한도를 덮어씀")
+    void applyRouteLimits_OverridesConfiguredServices() {
+        // given
+        PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager();
+        manager.setDefaultMaxPerRoute(50);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("service.team.url", "http://serve-team:8082")
+                .withProperty("service.team.max-connections", "100")
+                .withProperty("service.team.cache.positive-ttl", "PT30S")
+                .withProperty("service.auth.url", "http://serve-auth:8081");
+
+        // when
+        FeignTransportConfig.applyRouteLimits(manager, environment);
+
+        // then
+        assertEquals(100, manager.getMaxPerRoute(FeignTransportConfig.toRoute("http://serve-team:8082")));
+        assertEquals(50, manager.getMaxPerRoute(FeignTransportConfig.toRoute("http://serve-auth:8081")));
+    }
+}
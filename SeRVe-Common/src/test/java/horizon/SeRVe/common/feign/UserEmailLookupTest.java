@@ -0,0 +1,49 @@
+package horizon.SeRVe.common.feign;
+
+import horizon.SeRVe.common.dto.feign.UserInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserEmailLookupTest {
+
+    @Test
+    @DisplayName("중복 제거 후 MAX_BATCH_SIZE 단위로 나눠 조회")
+    void findEmails_ChunksByMaxBatchSize() {
+        // given
+        List<String> userIds = new ArrayList<>(IntStream.range(0, UserEmailLookup.MAX_BATCH_SIZE + 1)
+                .mapToObj(i -> "user-" + i)
+                .toList());
+        userIds.add("user-0");
+        List<Integer> requestSizes = new ArrayList<>();
+
+        // when
+        Map<String, String> emails = UserEmailLookup.findEmails(ids -> {
+            requestSizes.add(ids.size());
+            return ids.stream()
+                    .map(id -> UserInfoResponse.builder().userId(id).email(id + "@test.com").build())
+                    .toList();
+        }, userIds);
+
+        // then
+        assertEquals(List.of(UserEmailLookup.MAX_BATCH_SIZE, 1), requestSizes);
+        assertEquals(UserEmailLookup.MAX_BATCH_SIZE + 1, emails.size());
+        assertEquals("user-0@test.com", emails.get("user-0"));
+    }
+
+    @Test
+    @DisplayName("Auth 호출 실패 시 빈 맵")
+    void findEmails_FailureReturnsEmpty() {
+        Map<String, String> emails = UserEmailLookup.findEmails(ids -> {
+            throw new IllegalStateException("auth down");
+        }, List.of("user-1"));
+
+        assertTrue(emails.isEmpty());
+    }
+}
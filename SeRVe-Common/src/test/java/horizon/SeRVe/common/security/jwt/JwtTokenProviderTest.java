@@ -0,0 +1,79 @@
+package horizon.SeRVe.common.security.jwt;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey",
+                "MySuperSecretKeyForHorizonServeProject2025MustBeLongEnoughToWork");
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenValidityInMilliseconds", 60_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedTokenCacheSize", 100L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("사람 토큰은 USER, 로봇 토큰은 EDGE_NODE와 소속 teamId를 details로 노출")
+    void getAuthentication_ExposesPrincipalTypeAndTeam() {
+        // given
+        String userToken = jwtTokenProvider.createToken("user-1", "user@serve.io");
+        String robotToken = jwtTokenProvider.createEdgeNodeToken("node-1", "SN-001", "team-1");
+
+        // when
+        Authentication user = jwtTokenProvider.getAuthentication(userToken);
+        Authentication robot = jwtTokenProvider.getAuthentication(robotToken);
+
+        // then
+        assertEquals("user-1", user.getPrincipal());
+        assertEquals(new JwtPrincipal("user-1", "user@serve.io", JwtPrincipal.USER, null), user.getDetails());
+        assertEquals("node-1", robot.getPrincipal());
+        JwtPrincipal robotPrincipal = (JwtPrincipal) robot.getDetails();
+        assertTrue(robotPrincipal.isEdgeNode());
+        assertEquals("team-1", robotPrincipal.teamId());
+        assertEquals("SN-001", robotPrincipal.email());
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 파싱/검증하고 이후에는 캐시된 주체를 반환")
+    void verify_CachesVerifiedToken() {
+        // given
+        String token = jwtTokenProvider.createToken("user-1", "user@serve.io");
+
+        // when
+        JwtPrincipal first = jwtTokenProvider.verify(token).orElseThrow();
+        JwtPrincipal second = jwtTokenProvider.verify(token).orElseThrow();
+
+        // then
+        assertSame(first, second);
+        assertTrue(jwtTokenProvider.validateToken(token));
+        assertEquals("user@serve.io", jwtTokenProvider.getUserEmail(token));
+        assertEquals("user-1", jwtTokenProvider.getUserId(token));
+    }
+
+    @Test
+    @DisplayName("서명이 변조되었거나 만료된 토큰은 거부하고 캐싱하지 않음")
+    void verify_RejectsTamperedAndExpiredToken() {
+        // given
+        String token = jwtTokenProvider.createToken("user-1", "user@serve.io");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenValidityInMilliseconds", -1_000L);
+        String expired = jwtTokenProvider.createToken("user-1", "user@serve.io");
+
+        // when & then
+        assertTrue(jwtTokenProvider.verify(tampered).isEmpty());
+        assertTrue(jwtTokenProvider.verify(expired).isEmpty());
+        assertFalse(jwtTokenProvider.validateToken(null));
+        assertThrows(JwtException.class, () -> jwtTokenProvider.getAuthentication(expired));
+    }
+}
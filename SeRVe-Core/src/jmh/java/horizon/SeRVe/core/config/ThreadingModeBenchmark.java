@@ -0,0 +1,198 @@
+package horizon.SeRVe.core.config;
+
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import feign.Feign;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
+import horizon.SeRVe.core.feign.TeamServiceClient;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 높은 동시성에서 플랫폼 스레드 풀(Tomcat 기본 max-threads=200)과 가상 스레드(spring.threads.virtual.enabled) 비교 - 실제 호출 스택 기준.
+ *
+ * 요청 하나는 Core의 목록 조회 경로와 같은 순서로 처리됩니다.
+ * 1. Team 접근 판정: 실제 TeamServiceClient를 Spring MVC 계약 + 풀링 Apache HttpClient 5(Feign)로 호출
+ *    (로컬 스텁 Team 서버가 teamLatencyMs 후 응답)
+ * 2. DB 조회: HikariCP 풀에서 커넥션을 얻어 쿼리 실행, 원격 DB 왕복(dbLatencyMs) 동안 커넥션 점유 (내장 H2)
+ * 동시 요청 concurrentRequests개를 한 번에 제출하고 모두 끝날 때까지의 시간을 측정합니다.
+ *
+ * 가상 스레드는 요청 스레드 한도를 없애므로 병목이 Hikari 풀(hikariPoolSize)과 Feign 라우트 한도(feignMaxPerRoute)로 옮겨갑니다.
+ * 풀을 그대로 두면 가상 모드의 이점이 풀 대기로 사라지는 것을 파라미터 조합으로 확인할 수 있습니다 (README "가상 스레드 모드").
+ *
+ * 실행: ./gradlew :SeRVe-Core:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final byte[] ACCESS_JSON = "{\"teamExists\":true,\"principalType\":\"USER\",\"role\":\"MEMBER\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"200", "1000"})
+    public int concurrentRequests;
+
+    // spring.datasource.hikari.maximum-pool-size (기본 10)
+    @Param({"10", "50"})
+    public int hikariPoolSize;
+
+    // service.team.max-connections
+    @Param({"50", "200"})
+    public int feignMaxPerRoute;
+
+    @Param({"10"})
+    public int teamLatencyMs;
+
+    @Param({"10"})
+    public int dbLatencyMs;
+
+    private HttpServer teamStub;
+    private CloseableHttpClient httpClient;
+    private TeamServiceClient teamServiceClient;
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+    private final AtomicLong failures = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Team 스텁: 요청마다 가상 스레드에서 지연 후 접근 판정 응답 (스텁 자체가 병목이 되지 않도록)
+        teamStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        teamStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        teamStub.createContext("/internal/teams/", exchange -> {
+            try {
+                Thread.sleep(teamLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, ACCESS_JSON.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(ACCESS_JSON);
+            }
+        });
+        teamStub.start();
+
+        // application.yml의 spring.cloud.openfeign.httpclient.* / client.config.default와 같은 구성
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(Math.max(200, feignMaxPerRoute))
+                .setMaxConnPerRoute(feignMaxPerRoute)
+                .build();
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofSeconds(3))
+                        .build())
+                .build();
+        ObjectFactory<HttpMessageConverters> converters =
+                () -> new HttpMessageConverters(false, List.of(new MappingJackson2HttpMessageConverter()));
+        teamServiceClient = Feign.builder()
+                .client(new ApacheHttp5Client(httpClient))
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(converters))
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(converters)))
+                .options(new Request.Options(2, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true))
+                .target(TeamServiceClient.class, "http://127.0.0.1:" + teamStub.getAddress().getPort());
+
+        HikariConfig hikari = new HikariConfig();
+        hikari.setJdbcUrl("jdbc:h2:mem:threading-bench;DB_CLOSE_DELAY=-1");
+        hikari.setMaximumPoolSize(hikariPoolSize);
+        dataSource = new HikariDataSource(hikari);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists tasks (id bigint primary key, team_id varchar(64))");
+            statement.execute("merge into tasks key(id) values (1, 'team-1')");
+        }
+
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        teamStub.stop(0);
+        httpClient.close();
+        dataSource.close();
+        if (failures.get() > 0) {
+            // 풀 대기 타임아웃(Feign connection-request-timeout, Hikari connection-timeout) 등 - 측정값과 함께 확인
+            System.out.println("실패한 요청: " + failures.get());
+        }
+    }
+
+    @Benchmark
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest() {
+        try {
+            TeamAccessResponse access = teamServiceClient.checkAccess("team-1", "user-1");
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("select id from tasks where team_id = ?")) {
+                statement.setString(1, "team-1");
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        rows.getLong(1);
+                    }
+                }
+                Thread.sleep(dbLatencyMs);
+            }
+            if (access.getPrincipalType() == null) {
+                failures.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.incrementAndGet();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+        }
+    }
+}
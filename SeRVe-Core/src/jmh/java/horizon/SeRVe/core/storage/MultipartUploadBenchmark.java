@@ -0,0 +1,77 @@
+package horizon.SeRVe.core.storage;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 파트 크기 / 동시성 조합별 멀티파트 업로드 처리량 측정 (AWS 불필요).
+ *
+ * LocalMultipartUploadBackend가 파트마다 왕복 지연(partLatencyMs)과
+ * 연결당 대역폭(mbPerSecond)을 흉내내므로, 실제 S3 환경에서의 상대적인 경향을 확인할 수 있습니다.
+ *
+ * 실행: ./gradlew :SeRVe-Core:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class MultipartUploadBenchmark {
+
+    @Param({"5", "8", "16"})
+    public int partSizeMb;
+
+    @Param({"1", "4", "8"})
+    public int concurrency;
+
+    @Param({"64"})
+    public int payloadMb;
+
+    @Param({"20"})
+    public int partLatencyMs;
+
+    @Param({"50"})
+    public int mbPerSecond;
+
+    private Path root;
+    private ExecutorService executor;
+    private MultipartUploader uploader;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("multipart-bench");
+        executor = Executors.newFixedThreadPool(concurrency);
+        LocalMultipartUploadBackend backend = new LocalMultipartUploadBackend(
+                root, Duration.ofMillis(partLatencyMs), mbPerSecond * 1024L * 1024L);
+        uploader = new MultipartUploader(backend, executor, partSizeMb * 1024 * 1024, concurrency, 3, 50);
+
+        payload = new byte[payloadMb * 1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(payload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String upload() {
+        return uploader.upload("bench/team/task/blob.enc", new ByteArrayInputStream(payload));
+    }
+}
@@ -3,9 +3,11 @@ package horizon.SeRVe.core;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"horizon.SeRVe.core", "horizon.SeRVe.common"})
 @EnableFeignClients
+@EnableScheduling
 public class SeRVeCoreApplication {
     public static void main(String[] args) {
         SpringApplication.run(SeRVeCoreApplication.class, args);
@@ -0,0 +1,37 @@
+package horizon.SeRVe.core.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 응답(StreamingResponseBody - 동기화 델타 스트리밍) 전용 Executor.
+ *
+ * 기본 실행기를 쓰면 느린 셀룰러 클라이언트로의 전송이 @Async 등 다른 작업과 스레드를 나눠 쓰게 되므로 따로 둡니다.
+ * 요청 타임아웃은 spring.mvc.async.request-timeout (SSE 구독은 SseEmitter 자체 타임아웃 사용).
+ */
+@Configuration
+public class AsyncMvcConfig {
+
+    @Bean
+    public AsyncTaskExecutor mvcStreamingExecutor(
+            @Value("${sync.stream.executor-threads:32}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return BlockingIoExecutors.create("mvc-stream-", threads, virtualThreads);
+    }
+
+    @Bean
+    public WebMvcConfigurer mvcStreamingAsyncSupport(
+            @Qualifier("mvcStreamingExecutor") AsyncTaskExecutor mvcStreamingExecutor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(mvcStreamingExecutor);
+            }
+        };
+    }
+}
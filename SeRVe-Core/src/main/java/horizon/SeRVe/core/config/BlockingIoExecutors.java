@@ -0,0 +1,36 @@
+package horizon.SeRVe.core.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 블로킹 전송(S3 파트 업로드, 로컬 디스크 읽기/쓰기)용 Executor - 어느 모드든 동시 작업 수는 threads로 제한.
+ *
+ * - 플랫폼 스레드: 고정 크기 풀 + 큐, 큐가 가득 차면 요청 스레드가 직접 실행 (CallerRuns)
+ * - 가상 스레드(spring.threads.virtual.enabled=true): 작업마다 가상 스레드, 한도에 도달하면 제출한 스레드가 대기
+ * 두 경우 모두 제출 측에 backpressure가 걸립니다.
+ */
+final class BlockingIoExecutors {
+
+    private BlockingIoExecutors() {
+    }
+
+    static AsyncTaskExecutor create(String threadNamePrefix, int threads, boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(threads);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,47 @@
+package horizon.SeRVe.core.config;
+
+import horizon.SeRVe.core.storage.LocalBlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+// storage.backend=local: 로컬 파일시스템 저장소 (AWS 불필요 - 개발/CI/벤치마크, 온프레미스)
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageConfig {
+
+    @Bean
+    public AsyncTaskExecutor localBlobExecutor(
+            @Value("${storage.local.executor-threads:8}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return BlockingIoExecutors.create("local-blob-", threads, virtualThreads);
+    }
+
+    @Bean
+    public LocalBlobStore blobStore(
+            @Qualifier("localBlobExecutor") AsyncTaskExecutor localBlobExecutor,
+            @Value("${storage.local.root}") Path root,
+            @Value("${storage.local.public-base-url}") String publicBaseUrl,
+            @Value("${storage.local.signing-secret:}") String signingSecret,
+            @Value("${jwt.secret}") String jwtSecret) {
+        // 서명 키가 JWT 키와 같으면 한쪽 유출이 양쪽(토큰 위조 + 저장소 URL 위조)으로 번지므로 별도 키를 요구
+        if (signingSecret.isBlank()) {
+            throw new IllegalStateException(
+                    "storage.backend=local에는 storage.local.signing-secret(STORAGE_LOCAL_SIGNING_SECRET)이 필요합니다.");
+        }
+        if (signingSecret.equals(jwtSecret)) {
+            throw new IllegalStateException("storage.local.signing-secret은 jwt.secret과 다른 값이어야 합니다.");
+        }
+        log.info("로컬 파일시스템 저장소 사용: root={}, publicBaseUrl={}", root.toAbsolutePath(), publicBaseUrl);
+        return new LocalBlobStore(root, publicBaseUrl,
+                signingSecret.getBytes(StandardCharsets.UTF_8), localBlobExecutor);
+    }
+}
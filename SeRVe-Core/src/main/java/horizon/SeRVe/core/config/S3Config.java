@@ -1,18 +1,35 @@
 package horizon.SeRVe.core.config;
 
+import horizon.SeRVe.core.storage.BlobStore;
+import horizon.SeRVe.core.storage.MultipartUploader;
+import horizon.SeRVe.core.storage.S3BlobStore;
+import horizon.SeRVe.core.storage.S3MultipartUploadBackend;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+// storage.backend=s3 (기본값)일 때만 S3 클라이언트 생성 - local이면 AWS 없이 LocalStorageConfig 사용
+@Slf4j
 @Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${aws.s3.region}")
     private String region;
 
+    @Value("${aws.s3.bucket}")
+    private String bucketName;
+
     @Bean
     public S3Client s3Client() {
         // EKS에서는 IRSA(IAM Roles for Service Accounts)로 자동 인증
@@ -22,10 +39,67 @@ public class S3Config {
                 .build();
     }
 
+    // 논블로킹 S3 클라이언트 - CRT 네이티브 라이브러리가 있으면 CRT 기반(자동 멀티파트/병렬 전송),
+    // 없으면 Netty 기반 SDK 클라이언트로 대체
+    @Bean
+    public S3AsyncClient s3AsyncClient(
+            @Value("${aws.s3.async.crt-enabled:true}") boolean crtEnabled,
+            @Value("${aws.s3.async.target-throughput-gbps:5.0}") double targetThroughputGbps,
+            @Value("${aws.s3.async.max-concurrency:64}") int maxConcurrency,
+            @Value("${aws.s3.multipart.part-size:8MB}") DataSize partSize) {
+        if (crtEnabled && ClassUtils.isPresent("software.amazon.awssdk.crt.CRT", getClass().getClassLoader())) {
+            log.info("S3 비동기 클라이언트: CRT 기반 (targetThroughput={}Gbps, maxConcurrency={})",
+                    targetThroughputGbps, maxConcurrency);
+            return S3AsyncClient.crtBuilder()
+                    .region(Region.of(region))
+                    .targetThroughputInGbps(targetThroughputGbps)
+                    .maxConcurrency(maxConcurrency)
+                    .minimumPartSizeInBytes(Math.max(partSize.toBytes(), MultipartUploader.MIN_PART_SIZE))
+                    .build();
+        }
+        log.info("S3 비동기 클라이언트: Netty 기반 (CRT 미사용)");
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .multipartEnabled(true)
+                .build();
+    }
+
+    @Bean
+    public BlobStore blobStore(
+            S3Client s3Client,
+            S3AsyncClient s3AsyncClient,
+            S3Presigner s3Presigner,
+            MultipartUploader multipartUploader,
+            @Value("${aws.s3.multipart.threshold:16MB}") DataSize multipartThreshold) {
+        return new S3BlobStore(s3Client, s3AsyncClient, s3Presigner, multipartUploader,
+                bucketName, multipartThreshold.toBytes());
+    }
+
     @Bean
     public S3Presigner s3Presigner() {
         return S3Presigner.builder()
                 .region(Region.of(region))
                 .build();
     }
+
+    // 멀티파트 파트 전송용 공유 Executor (업로드별 동시성은 MultipartUploader가 따로 제한)
+    @Bean
+    public AsyncTaskExecutor s3PartUploadExecutor(
+            @Value("${aws.s3.multipart.executor-threads:16}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return BlockingIoExecutors.create("s3-part-", threads, virtualThreads);
+    }
+
+    @Bean
+    public MultipartUploader multipartUploader(
+            S3Client s3Client,
+            @Qualifier("s3PartUploadExecutor") AsyncTaskExecutor s3PartUploadExecutor,
+            @Value("${aws.s3.multipart.part-size:8MB}") DataSize partSize,
+            @Value("${aws.s3.multipart.concurrency:4}") int concurrency,
+            @Value("${aws.s3.multipart.max-part-retries:3}") int maxPartRetries) {
+        int partBytes = (int) Math.max(partSize.toBytes(), MultipartUploader.MIN_PART_SIZE);
+        return new MultipartUploader(
+                new S3MultipartUploadBackend(s3Client, bucketName),
+                s3PartUploadExecutor, partBytes, concurrency, maxPartRetries, 200);
+    }
 }
@@ -35,6 +35,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/security/**").permitAll()
                         .requestMatchers("/api/sync/tasks").permitAll()
                         .requestMatchers("/internal/**").permitAll()
+                        // 로컬 저장소 presigned URL - URL 서명으로 인가 (storage.backend=local)
+                        .requestMatchers("/api/storage/objects").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
                         .requestMatchers("/error").permitAll()
                         .anyRequest().authenticated()
@@ -1,8 +1,13 @@
 package horizon.SeRVe.core.controller;
 
+import horizon.SeRVe.core.dto.demo.DemoCommitRequest;
 import horizon.SeRVe.core.dto.demo.DemoResponse;
 import horizon.SeRVe.core.dto.demo.DemoSyncResponse;
 import horizon.SeRVe.core.dto.demo.DemoUploadRequest;
+import horizon.SeRVe.core.dto.demo.DemoUploadUrlRequest;
+import horizon.SeRVe.core.dto.demo.DemoUploadUrlResponse;
+import horizon.SeRVe.core.service.ChangeSequenceService;
+import horizon.SeRVe.core.service.ChangeSequenceService.SyncCursor;
 import horizon.SeRVe.core.service.DemoService;
 import horizon.SeRVe.core.service.ScenarioService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +23,7 @@ public class DemoController {
 
     private final DemoService demoService;
     private final ScenarioService scenarioService;
+    private final ChangeSequenceService changeSequenceService;
 
     @PostMapping("/api/teams/{teamId}/demos")
     public ResponseEntity<Void> uploadDemos(
@@ -30,6 +36,29 @@ public class DemoController {
         return ResponseEntity.ok().build();
     }
 
+    // Presigned 업로드 1단계 - 데모별 S3 PUT URL 발급 (바이너리는 Core를 거치지 않음)
+    @PostMapping("/api/teams/{teamId}/demos/upload-urls")
+    public ResponseEntity<DemoUploadUrlResponse> requestDemoUpload(
+            @PathVariable String teamId,
+            Authentication authentication,
+            @RequestBody DemoUploadUrlRequest request) {
+
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(demoService.requestDemoUpload(teamId, userId, request));
+    }
+
+    // Presigned 업로드 2단계 - S3 업로드 완료 후 메타데이터 커밋
+    @PostMapping("/api/teams/{teamId}/demos/commit")
+    public ResponseEntity<Void> commitDemoUpload(
+            @PathVariable String teamId,
+            Authentication authentication,
+            @RequestBody DemoCommitRequest request) {
+
+        String userId = (String) authentication.getPrincipal();
+        demoService.commitDemoUpload(teamId, userId, request);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/api/teams/{teamId}/demos/{demoIndex}")
     public ResponseEntity<Void> deleteDemo(
             @PathVariable String teamId,
@@ -42,15 +71,20 @@ public class DemoController {
         return ResponseEntity.ok().build();
     }
 
+    // lastSeq: 이전 응답에서 받은 가장 큰 seq (0이면 전체, 논리 삭제된 데모도 tombstone으로 포함)
+    // lastVersion: 폐기 예정 - lastSeq 없이 보내면 기존 version 필터로 응답 (경고 로그는 팀별 주기당 1회)
     @GetMapping("/api/sync/demos")
     public ResponseEntity<List<DemoSyncResponse>> syncTeamDemos(
             @RequestParam String teamId,
-            @RequestParam(defaultValue = "0") int lastVersion,
+            @RequestParam(required = false) Long lastSeq,
+            @RequestParam(required = false) Integer lastVersion,
             Authentication authentication) {
 
         String userId = (String) authentication.getPrincipal();
-        List<DemoSyncResponse> response = demoService.syncTeamDemos(
-                teamId, lastVersion, userId);
+        SyncCursor cursor = changeSequenceService.syncCursor(teamId, lastSeq, "lastVersion", lastVersion);
+        List<DemoSyncResponse> response = cursor.isLegacy()
+                ? demoService.syncTeamDemosSinceVersion(teamId, cursor.legacyVersion(), userId)
+                : demoService.syncTeamDemos(teamId, cursor.seq(), userId);
         return ResponseEntity.ok(response);
     }
 
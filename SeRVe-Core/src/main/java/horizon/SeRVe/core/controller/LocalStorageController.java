@@ -0,0 +1,62 @@
+package horizon.SeRVe.core.controller;
+
+import horizon.SeRVe.core.storage.LocalBlobStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.NoSuchFileException;
+
+// 로컬 저장소의 presigned URL 대상 (storage.backend=local) - JWT 대신 URL 서명(HMAC, 만료 시각)으로 인가
+@RestController
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageController {
+
+    private final LocalBlobStore localBlobStore;
+
+    public LocalStorageController(LocalBlobStore localBlobStore) {
+        this.localBlobStore = localBlobStore;
+    }
+
+    // 다운로드 - 파일을 FileChannel.transferTo로 응답에 직접 전송
+    @GetMapping(LocalBlobStore.OBJECT_PATH)
+    public void download(@RequestParam String key,
+                         @RequestParam long expires,
+                         @RequestParam String signature,
+                         HttpServletResponse response) throws IOException {
+        if (!localBlobStore.verify("GET", key, expires, signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        long size;
+        try {
+            size = localBlobStore.size(key);
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(size);
+        localBlobStore.transferTo(key, Channels.newChannel(response.getOutputStream()));
+    }
+
+    // 업로드 - 본문을 스트림 그대로 임시 파일에 기록 후 원자적 게시
+    @PutMapping(LocalBlobStore.OBJECT_PATH)
+    public void upload(@RequestParam String key,
+                       @RequestParam long expires,
+                       @RequestParam String signature,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        if (!localBlobStore.verify("PUT", key, expires, signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        localBlobStore.put(key, request.getInputStream(), request.getContentLengthLong());
+        response.setStatus(HttpStatus.OK.value());
+    }
+}
@@ -1,12 +1,20 @@
 package horizon.SeRVe.core.controller;
 
-import horizon.SeRVe.core.dto.sync.ChangedTaskResponse;
+import horizon.SeRVe.core.dto.presign.PresignedUrlBatchRequest;
+import horizon.SeRVe.core.dto.presign.PresignedUrlBatchResponse;
+import horizon.SeRVe.core.service.ChangeSequenceService;
+import horizon.SeRVe.core.service.ChangeSequenceService.SyncCursor;
+import horizon.SeRVe.core.service.PresignedUrlService;
+import horizon.SeRVe.core.service.SyncNotificationService;
 import horizon.SeRVe.core.service.SyncService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/sync")
@@ -14,15 +22,54 @@ import java.util.List;
 public class SyncController {
 
     private final SyncService syncService;
+    private final SyncNotificationService syncNotificationService;
+    private final PresignedUrlService presignedUrlService;
+    private final ChangeSequenceService changeSequenceService;
 
+    // 응답 형식은 ChangedTaskResponse 배열 - 조회 결과를 모으지 않고 페이지 단위로 스트리밍
+    // lastSeq: 이전 응답에서 받은 가장 큰 seq (0이면 전체)
+    // lastSyncVersion: 폐기 예정 - lastSeq 없이 보내면 기존 version 필터로 응답 (경고 로그는 팀별 주기당 1회)
+    // Accept에 application/cbor가 있으면 CBOR, 그 외에는 기존과 같은 JSON
     @GetMapping("/tasks")
-    public ResponseEntity<List<ChangedTaskResponse>> getChangedTasks(
+    public ResponseEntity<StreamingResponseBody> getChangedTasks(
             @RequestParam String teamId,
-            @RequestParam(defaultValue = "0") int lastSyncVersion) {
+            @RequestParam(required = false) Long lastSeq,
+            @RequestParam(required = false) Integer lastSyncVersion,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        syncService.checkTeamExists(teamId);
+        SyncCursor cursor = changeSequenceService.syncCursor(teamId, lastSeq, "lastSyncVersion", lastSyncVersion);
 
-        List<ChangedTaskResponse> changedTasks =
-                syncService.getChangedTasks(teamId, lastSyncVersion);
+        boolean cbor = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_CBOR::equalsTypeAndSubtype);
+        StreamingResponseBody body = cursor.isLegacy()
+                ? out -> syncService.writeChangedTasksSinceVersion(teamId, cursor.legacyVersion(), cbor, out)
+                : out -> syncService.writeChangedTasks(teamId, cursor.seq(), cbor, out);
+        return ResponseEntity.ok()
+                .contentType(cbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 다운로드 presigned URL 일괄 발급 - 동기화로 받은 태스크/데모/Artifact ID 목록을 한 번에 (권한 확인 1회)
+    @PostMapping("/presigned-urls")
+    public ResponseEntity<PresignedUrlBatchResponse> getPresignedUrls(
+            @RequestParam String teamId,
+            @RequestBody PresignedUrlBatchRequest request,
+            Authentication authentication) {
+
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(presignedUrlService.getPresignedUrls(teamId, userId, request));
+    }
+
+    // 변경 알림 구독 (SSE) - 팀의 태스크/데모가 바뀌면 "change" 이벤트({teamId, seq}) 수신 후 위 동기화 API 호출
+    // lastSeq: 클라이언트가 마지막으로 동기화한 seq (이미 더 새로운 변경이 있으면 즉시 이벤트 전송)
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam String teamId,
+            @RequestParam(defaultValue = "0") long lastSeq,
+            Authentication authentication) {
 
-        return ResponseEntity.ok(changedTasks);
+        String userId = (String) authentication.getPrincipal();
+        return syncNotificationService.subscribe(teamId, userId, lastSeq);
     }
 }
@@ -1,14 +1,26 @@
 package horizon.SeRVe.core.controller;
 
+import horizon.SeRVe.core.dto.task.BatchUploadTaskRequest;
+import horizon.SeRVe.core.dto.task.BatchUploadTaskResponse;
 import horizon.SeRVe.core.dto.task.ClientUploadRequest;
+import horizon.SeRVe.core.dto.task.TaskCommitRequest;
+import horizon.SeRVe.core.dto.task.TaskPageResponse;
 import horizon.SeRVe.core.dto.task.TaskResponse;
+import horizon.SeRVe.core.dto.task.TaskUploadUrlRequest;
+import horizon.SeRVe.core.dto.task.TaskUploadUrlResponse;
 import horizon.SeRVe.core.dto.task.UploadTaskRequest;
 import horizon.SeRVe.core.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +28,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     private final TaskService taskService;
 
     // 기존 업로드 (내부 API용)
@@ -30,6 +44,73 @@ public class TaskController {
         return ResponseEntity.ok().build();
     }
 
+    // 스트리밍 업로드 - 요청 본문이 곧 암호화 바이너리 (Base64 인코딩 없음)
+    // Content-Length가 없으면(chunked) 멀티파트 업로드로 처리
+    @PostMapping(value = "/api/teams/{teamId}/tasks", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Void> uploadTaskStream(
+            @PathVariable String teamId,
+            @RequestParam String fileName,
+            @RequestParam(defaultValue = MediaType.APPLICATION_OCTET_STREAM_VALUE) String fileType,
+            Authentication authentication,
+            HttpServletRequest request) throws IOException {
+
+        String userId = (String) authentication.getPrincipal();
+        taskService.uploadTaskStream(teamId, userId, fileName, fileType,
+                request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok().build();
+    }
+
+    // 멀티파트 업로드 - 파일 파트는 서블릿 컨테이너가 디스크에 임시 저장 후 스트림으로 전달
+    @PostMapping(value = "/api/teams/{teamId}/tasks", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Void> uploadTaskMultipart(
+            @PathVariable String teamId,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String fileName,
+            @RequestParam(defaultValue = MediaType.APPLICATION_OCTET_STREAM_VALUE) String fileType,
+            Authentication authentication) throws IOException {
+
+        String userId = (String) authentication.getPrincipal();
+        String name = fileName != null ? fileName : file.getOriginalFilename();
+        try (InputStream content = file.getInputStream()) {
+            taskService.uploadTaskStream(teamId, userId, name, fileType, content, file.getSize());
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    // 배치 업로드 - N개 태스크를 권한 확인 1회, 트랜잭션 1회로 처리하고 항목별 결과 반환
+    @PostMapping("/api/teams/{teamId}/tasks/batch")
+    public ResponseEntity<BatchUploadTaskResponse> uploadTasks(
+            @PathVariable String teamId,
+            Authentication authentication,
+            @RequestBody @Valid BatchUploadTaskRequest request) {
+
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(taskService.uploadTasks(teamId, userId, request));
+    }
+
+    // Presigned 업로드 1단계 - S3 PUT URL 발급 (바이너리는 Core를 거치지 않음)
+    @PostMapping("/api/teams/{teamId}/tasks/upload-url")
+    public ResponseEntity<TaskUploadUrlResponse> requestTaskUpload(
+            @PathVariable String teamId,
+            Authentication authentication,
+            @RequestBody TaskUploadUrlRequest request) {
+
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(taskService.requestTaskUpload(teamId, userId, request));
+    }
+
+    // Presigned 업로드 2단계 - S3 업로드 완료 후 메타데이터 커밋
+    @PostMapping("/api/teams/{teamId}/tasks/commit")
+    public ResponseEntity<Void> commitTaskUpload(
+            @PathVariable String teamId,
+            Authentication authentication,
+            @RequestBody TaskCommitRequest request) {
+
+        String userId = (String) authentication.getPrincipal();
+        taskService.commitTaskUpload(teamId, userId, request);
+        return ResponseEntity.ok().build();
+    }
+
     // 클라이언트 호환 업로드 (POST /api/tasks)
     @PostMapping("/api/tasks")
     public ResponseEntity<Long> uploadTaskFromClient(
@@ -42,13 +123,37 @@ public class TaskController {
         return ResponseEntity.ok(taskId);
     }
 
+    // 클라이언트 호환 스트리밍 업로드 (POST /api/tasks, application/octet-stream)
+    @PostMapping(value = "/api/tasks", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Long> uploadTaskStreamFromClient(
+            @RequestParam String repositoryId,
+            Authentication authentication,
+            HttpServletRequest request) throws IOException {
+
+        String userId = (String) authentication.getPrincipal();
+        Long taskId = taskService.uploadTaskStreamFromClient(
+                repositoryId, userId, request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok(taskId);
+    }
+
+    // 태스크 목록 (keyset 페이지네이션) - 응답의 nextCursor를 다음 요청의 cursor로 전달
+    // cursor/size를 모두 생략한 기존 클라이언트에는 이전과 같이 전체 목록을 JSON 배열로 반환
     @GetMapping("/api/teams/{teamId}/tasks")
-    public ResponseEntity<List<TaskResponse>> getTasks(
+    public ResponseEntity<?> getTasks(
             @PathVariable String teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fileType,
+            @RequestParam(required = false) String uploaderId,
             Authentication authentication) {
 
         String userId = (String) authentication.getPrincipal();
-        List<TaskResponse> response = taskService.getTasks(teamId, userId);
+        if (cursor == null && size == null) {
+            List<TaskResponse> response = taskService.getAllTasks(teamId, userId, fileType, uploaderId);
+            return ResponseEntity.ok(response);
+        }
+        TaskPageResponse response = taskService.getTasks(teamId, userId, cursor,
+                size != null ? size : DEFAULT_PAGE_SIZE, fileType, uploaderId);
         return ResponseEntity.ok(response);
     }
 
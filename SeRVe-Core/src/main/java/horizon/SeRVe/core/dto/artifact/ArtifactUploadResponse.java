@@ -9,4 +9,6 @@ public class ArtifactUploadResponse {
     private String artifactId;
     private String presignedUrl;  // S3 PUT URL (15분 유효) — 이 URL로 직접 업로드
     private String objectKey;
+    @Builder.Default
+    private boolean uploadRequired = true;  // 호환용 - Artifact는 중복 제거하지 않으므로 항상 true
 }
@@ -0,0 +1,13 @@
+package horizon.SeRVe.core.dto.demo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DemoCommitItem {
+    private int demoIndex;
+    private String objectKey; // upload-urls 응답으로 받은 objectKey
+}
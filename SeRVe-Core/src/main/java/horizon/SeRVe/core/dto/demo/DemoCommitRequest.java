@@ -0,0 +1,16 @@
+package horizon.SeRVe.core.dto.demo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DemoCommitRequest {
+    private String fileName;
+    private String taskId;
+    private List<DemoCommitItem> demos;
+}
@@ -12,6 +12,7 @@ public class DemoSyncResponse {
     private int demoIndex;
     private String objectKey; // S3 key. 클라이언트가 S3에서 직접 다운로드
     private int version;
+    private Long seq; // 팀 변경 시퀀스 - 다음 동기화의 lastSeq로 사용
     private boolean isDeleted;
     private String createdBy;
 
@@ -22,6 +23,7 @@ public class DemoSyncResponse {
                 .demoIndex(demo.getDemoIndex())
                 .objectKey(demo.getObjectKey())
                 .version(demo.getVersion())
+                .seq(demo.getChangeSeq())
                 .isDeleted(demo.isDeleted())
                 .createdBy(null)
                 .build();
@@ -34,6 +36,7 @@ public class DemoSyncResponse {
                 .demoIndex(demo.getDemoIndex())
                 .objectKey(demo.getObjectKey())
                 .version(demo.getVersion())
+                .seq(demo.getChangeSeq())
                 .isDeleted(demo.isDeleted())
                 .createdBy(createdBy)
                 .build();
@@ -0,0 +1,12 @@
+package horizon.SeRVe.core.dto.demo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DemoUploadUrl {
+    private int demoIndex;
+    private String objectKey;
+    private String presignedUrl;  // S3 PUT URL (15분 유효) — 이 URL로 직접 업로드
+}
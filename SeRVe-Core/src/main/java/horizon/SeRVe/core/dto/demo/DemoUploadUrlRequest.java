@@ -0,0 +1,15 @@
+package horizon.SeRVe.core.dto.demo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DemoUploadUrlRequest {
+    private String fileName;
+    private List<Integer> demoIndexes;
+}
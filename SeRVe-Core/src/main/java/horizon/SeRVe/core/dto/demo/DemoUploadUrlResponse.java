@@ -0,0 +1,13 @@
+package horizon.SeRVe.core.dto.demo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class DemoUploadUrlResponse {
+    private String taskId;
+    private List<DemoUploadUrl> uploads;
+}
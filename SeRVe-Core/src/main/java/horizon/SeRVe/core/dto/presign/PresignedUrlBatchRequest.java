@@ -0,0 +1,16 @@
+package horizon.SeRVe.core.dto.presign;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlBatchRequest {
+    private List<String> taskIds;      // Task UUID (동기화 응답의 taskId)
+    private List<String> demoIds;      // VectorDemo ID (동기화 응답의 demoId)
+    private List<String> artifactIds;
+}
@@ -0,0 +1,15 @@
+package horizon.SeRVe.core.dto.presign;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PresignedUrlBatchResponse {
+    private List<PresignedUrlItem> tasks;
+    private List<PresignedUrlItem> demos;
+    private List<PresignedUrlItem> artifacts;
+    private List<String> notFound; // 없거나 이 팀 소속이 아닌(또는 삭제된) ID
+}
@@ -0,0 +1,11 @@
+package horizon.SeRVe.core.dto.presign;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PresignedUrlItem {
+    private String id;
+    private String presignedUrl; // S3 GET URL — 이 URL로 직접 다운로드
+}
@@ -15,6 +15,7 @@ public class ChangedTaskResponse {
     private String fileName;
     private String fileType;
     private int version;
+    private Long seq; // 팀 변경 시퀀스 - 다음 동기화의 lastSeq로 사용
     private String uploaderId;
 
     public static ChangedTaskResponse from(Task task) {
@@ -23,6 +24,7 @@ public class ChangedTaskResponse {
                 .fileName(task.getOriginalFileName())
                 .fileType(task.getFileType())
                 .version(task.getEncryptedData().getVersion())
+                .seq(task.getEncryptedData().getChangeSeq())
                 .uploaderId(task.getUploaderId())
                 .build();
     }
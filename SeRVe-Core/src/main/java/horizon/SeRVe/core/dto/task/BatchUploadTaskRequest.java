@@ -0,0 +1,21 @@
+package horizon.SeRVe.core.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUploadTaskRequest {
+
+    public static final int MAX_TASKS = 100;
+
+    @NotEmpty(message = "업로드할 태스크가 없습니다.")
+    @Size(max = MAX_TASKS, message = "한 번에 최대 100개까지 업로드할 수 있습니다.")
+    private List<UploadTaskRequest> tasks;
+}
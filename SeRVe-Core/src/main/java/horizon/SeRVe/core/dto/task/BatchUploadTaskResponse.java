@@ -0,0 +1,12 @@
+package horizon.SeRVe.core.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BatchUploadTaskResponse {
+    private List<BatchUploadTaskResult> results; // 요청 순서와 동일
+}
@@ -0,0 +1,37 @@
+package horizon.SeRVe.core.dto.task;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BatchUploadTaskResult {
+
+    public enum Status {
+        CREATED,    // 신규 태스크
+        UPDATED,    // 기존 태스크 덮어쓰기 (version 증가)
+        UNCHANGED,  // 내용 동일 (version 유지)
+        FAILED
+    }
+
+    private String fileName;
+    private String taskId;
+    private Status status;
+    private String error;
+
+    public static BatchUploadTaskResult of(String fileName, String taskId, Status status) {
+        return BatchUploadTaskResult.builder()
+                .fileName(fileName)
+                .taskId(taskId)
+                .status(status)
+                .build();
+    }
+
+    public static BatchUploadTaskResult failed(String fileName, String error) {
+        return BatchUploadTaskResult.builder()
+                .fileName(fileName)
+                .status(Status.FAILED)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package horizon.SeRVe.core.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCommitRequest {
+    private String taskId;
+    private String fileName;
+    private String fileType;
+    private String objectKey; // upload-url 응답으로 받은 objectKey
+}
@@ -0,0 +1,13 @@
+package horizon.SeRVe.core.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaskPageResponse {
+    private List<TaskResponse> items;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+}
@@ -0,0 +1,13 @@
+package horizon.SeRVe.core.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskUploadUrlRequest {
+    private String fileName;
+    private String fileType;
+}
@@ -0,0 +1,12 @@
+package horizon.SeRVe.core.dto.task;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TaskUploadUrlResponse {
+    private String taskId;
+    private String objectKey;     // 커밋 요청에 그대로 전달
+    private String presignedUrl;  // S3 PUT URL (15분 유효) — 이 URL로 직접 업로드
+}
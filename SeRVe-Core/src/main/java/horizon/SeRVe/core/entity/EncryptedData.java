@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "encrypted_data")
+@Table(name = "encrypted_data", indexes = {
+    @Index(name = "idx_encrypted_data_object_key", columnList = "object_key"),
+    @Index(name = "idx_encrypted_data_team_seq", columnList = "team_id, change_seq")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -18,14 +21,23 @@ public class EncryptedData {
     @JoinColumn(name = "task_id")
     private Task task;
 
-    @Column(nullable = false, length = 500)
+    // Task.teamId 비정규화 - 동기화 델타 쿼리를 (team_id, change_seq) 인덱스 범위 스캔으로 처리
+    @Column(name = "team_id")
+    private String teamId;
+
+    @Column(name = "object_key", nullable = false, length = 500)
     private String objectKey; // S3 key (바이너리는 S3에 저장)
 
+    // 팀 단위 변경 시퀀스 (삽입/수정 시 기록) - 동기화 커서
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     @Version
     @Column(nullable = false)
     private int version;
 
-    public void updateObjectKey(String newKey) {
+    public void updateObjectKey(String newKey, long changeSeq) {
         this.objectKey = newKey;
+        this.changeSeq = changeSeq;
     }
 }
@@ -0,0 +1,56 @@
+package horizon.SeRVe.core.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 참조 여부가 확정되지 않은 S3 오브젝트 (2단계 쓰기용 reconciliation 레코드).
+ *
+ * - 업로드 전: 새 objectKey로 등록 → 메타데이터 커밋 시 제거
+ * - 덮어쓰기 커밋 시: 밀려난 이전 objectKey를 등록 → 유예 기간 후 삭제
+ * - 태스크 삭제/데모 논리 삭제 시: 참조가 사라진 objectKey를 등록 → 유예 기간 후 삭제
+ * 유예 기간이 지나도 남아 있는 레코드는 BlobGarbageCollector가 일괄 정리합니다.
+ * 워커는 레코드를 lease로 회수하고 S3 삭제 결과가 확정된 뒤에만 행을 지우므로,
+ * 도중에 실패하거나 파드가 죽어도 lease 만료 후 다시 회수됩니다.
+ */
+@Entity
+@Table(name = "pending_blobs", indexes = {
+    @Index(name = "idx_pending_blobs_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PendingBlob {
+
+    @Id
+    @Column(name = "pending_id", length = 36)
+    private String pendingId; // UUID
+
+    @Column(name = "team_id", nullable = false)
+    private String teamId;
+
+    @Column(name = "object_key", nullable = false, unique = true, length = 500)
+    private String objectKey;
+
+    // S3 삭제 실패로 다시 큐에 들어온 횟수
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    // BlobGarbageCollector가 회수 중인 레코드의 lease (미회수면 null)
+    @Column(name = "lease_id", length = 36)
+    private String leaseId;
+
+    @Column(name = "leased_until")
+    private LocalDateTime leasedUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
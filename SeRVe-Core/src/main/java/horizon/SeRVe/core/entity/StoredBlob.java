@@ -0,0 +1,47 @@
+package horizon.SeRVe.core.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 팀 단위 콘텐츠 주소 기반 S3 오브젝트 (중복 제거용).
+ *
+ * 같은 팀에서 동일한 암호문(SHA-256)이 다시 업로드되면 새 오브젝트를 만들지 않고 기존 objectKey를 공유하며,
+ * refCount로 참조하는 메타데이터(EncryptedData, VectorDemo) 수를 추적합니다.
+ * refCount가 0이 되면 레코드를 삭제하고 오브젝트는 정리 대상(pending_blobs)으로 넘깁니다.
+ */
+@Entity
+@Table(name = "stored_blobs", indexes = {
+    @Index(name = "idx_stored_blobs_team_hash", columnList = "team_id, content_hash")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoredBlob {
+
+    @Id
+    @Column(name = "blob_id", length = 36)
+    private String blobId; // UUID
+
+    @Column(name = "team_id", nullable = false)
+    private String teamId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // SHA-256 hex
+
+    @Column(name = "object_key", nullable = false, unique = true, length = 500)
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -5,7 +5,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_team_file", columnList = "team_id, original_file_name"),
+    @Index(name = "idx_tasks_team_uploaded", columnList = "team_id, uploaded_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -25,6 +28,7 @@ public class Task {
     @Column(name = "uploader_id")
     private String uploaderId;
 
+    @Column(name = "original_file_name")
     private String originalFileName;
 
     private String fileType;
@@ -33,6 +37,7 @@ public class Task {
     @OneToOne(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private EncryptedData encryptedData;
 
+    @Column(name = "uploaded_at")
     private LocalDateTime uploadedAt;
 
     @PrePersist
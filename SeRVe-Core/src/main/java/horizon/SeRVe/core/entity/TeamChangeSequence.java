@@ -0,0 +1,27 @@
+package horizon.SeRVe.core.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 팀 단위 변경 시퀀스 (동기화 커서).
+ *
+ * VectorDemo / EncryptedData의 삽입·수정·논리 삭제마다 이 값을 올려 각 행의 change_seq에 기록합니다.
+ * 시퀀스 행은 메타데이터 트랜잭션이 끝날 때까지 잠겨 있으므로 같은 팀의 변경은 시퀀스 순서대로 커밋되고,
+ * 클라이언트는 마지막으로 받은 seq 하나만으로 "그 이후의 모든 변경"을 정확히 조회할 수 있습니다.
+ */
+@Entity
+@Table(name = "team_change_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TeamChangeSequence {
+
+    @Id
+    @Column(name = "team_id")
+    private String teamId;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
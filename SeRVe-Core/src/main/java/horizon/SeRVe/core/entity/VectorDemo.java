@@ -7,8 +7,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "vector_demos", indexes = {
     @Index(name = "idx_task_demo", columnList = "task_id, demo_index"),
-    @Index(name = "idx_team_version", columnList = "team_id, version"),
-    @Index(name = "idx_task_deleted", columnList = "task_id, is_deleted")
+    @Index(name = "idx_vector_demos_team_seq", columnList = "team_id, change_seq"),
+    @Index(name = "idx_task_deleted", columnList = "task_id, is_deleted"),
+    @Index(name = "idx_vector_demos_object_key", columnList = "object_key")
 })
 @Getter
 @Setter
@@ -37,6 +38,10 @@ public class VectorDemo {
     @Column(name = "version", nullable = false)
     private int version;
 
+    // 팀 단위 변경 시퀀스 (삽입/수정/논리 삭제 시 기록) - 동기화 커서
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     @Builder.Default
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
@@ -58,13 +63,15 @@ public class VectorDemo {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void updateObjectKey(String newKey) {
+    public void updateObjectKey(String newKey, long changeSeq) {
         this.objectKey = newKey;
+        this.changeSeq = changeSeq;
         // version은 @Version에 의해 자동 증가
     }
 
-    public void markAsDeleted() {
+    public void markAsDeleted(long changeSeq) {
         this.isDeleted = true;
+        this.changeSeq = changeSeq;
         // version은 @Version에 의해 자동 증가
     }
 }
@@ -0,0 +1,143 @@
+package horizon.SeRVe.core.feign;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import feign.FeignException;
+import horizon.SeRVe.common.cache.SingleFlight;
+import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Team 서비스 조회(접근 판정, 팀 존재, 멤버 역할/존재, 로봇 소속 팀) 결과를 짧게 캐싱하는 TeamServiceClient.
+ *
+ * Core의 거의 모든 요청이 권한 확인을 위해 Team을 2~3회 호출하므로, 로봇 폴링처럼 같은 (팀, 사용자) 조합이
+ * 반복되는 요청은 캐시에서 바로 판정합니다.
+ * - 긍정 결과(존재함/역할)는 positive-ttl, 부정 결과(false, 접근 불가 판정, Team의 4xx 응답)는 더 짧은 negative-ttl 동안 유지
+ * - 5xx/연결 실패는 캐싱하지 않고 그대로 전파
+ * 멤버 추가/추방은 최대 TTL만큼 늦게 반영됩니다.
+ */
+@Primary
+@Component
+public class CachingTeamServiceClient implements TeamServiceClient {
+
+    private final TeamServiceClient delegate;
+    private final Duration positiveTtl;
+    private final Duration negativeTtl;
+
+    private final AsyncCache<MemberKey, Lookup<TeamAccessResponse>> accesses;
+    private final AsyncCache<String, Lookup<Boolean>> teams;
+    private final AsyncCache<MemberKey, Lookup<MemberRoleResponse>> memberRoles;
+    private final AsyncCache<MemberKey, Lookup<Boolean>> memberships;
+    private final AsyncCache<String, Lookup<String>> edgeNodeTeams;
+
+    public CachingTeamServiceClient(@Qualifier("teamServiceFeignClient") TeamServiceClient delegate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${service.team.cache.positive-ttl:PT30S}") Duration positiveTtl,
+                                    @Value("${service.team.cache.negative-ttl:PT5S}") Duration negativeTtl,
+                                    @Value("${service.team.cache.maximum-size:10000}") long maximumSize) {
+        this.delegate = delegate;
+        this.positiveTtl = positiveTtl;
+        this.negativeTtl = negativeTtl;
+        this.accesses = newCache(meterRegistry, "team.access", maximumSize);
+        this.teams = newCache(meterRegistry, "team.exists", maximumSize);
+        this.memberRoles = newCache(meterRegistry, "team.member-role", maximumSize);
+        this.memberships = newCache(meterRegistry, "team.member-exists", maximumSize);
+        this.edgeNodeTeams = newCache(meterRegistry, "team.edge-node-team", maximumSize);
+    }
+
+    @Override
+    public Boolean teamExists(String teamId) {
+        return lookup(teams, teamId, delegate::teamExists);
+    }
+
+    @Override
+    public MemberRoleResponse getMemberRole(String teamId, String userId) {
+        return lookup(memberRoles, new MemberKey(teamId, userId),
+                key -> delegate.getMemberRole(key.teamId(), key.userId()));
+    }
+
+    @Override
+    public Boolean memberExists(String teamId, String userId) {
+        return lookup(memberships, new MemberKey(teamId, userId),
+                key -> delegate.memberExists(key.teamId(), key.userId()));
+    }
+
+    @Override
+    public TeamAccessResponse checkAccess(String teamId, String principalId) {
+        return lookup(accesses, new MemberKey(teamId, principalId),
+                key -> delegate.checkAccess(key.teamId(), key.userId()));
+    }
+
+    @Override
+    public String getEdgeNodeTeamId(String nodeId) {
+        return lookup(edgeNodeTeams, nodeId, delegate::getEdgeNodeTeamId);
+    }
+
+    // 캐시 미스면 Team을 호출해 결과(또는 4xx 실패)를 저장 - 4xx는 캐시된 예외를 그대로 다시 던져 기존 동작 유지
+    // 같은 키의 동시 미스는 한 번만 호출
+    private <K, V> V lookup(AsyncCache<K, Lookup<V>> cache, K key, Function<K, V> loader) {
+        Lookup<V> result = SingleFlight.get(cache, key, k -> load(k, loader));
+        if (result.failure() != null) {
+            throw result.failure();
+        }
+        return result.value();
+    }
+
+    private <K, V> Lookup<V> load(K key, Function<K, V> loader) {
+        try {
+            return new Lookup<>(loader.apply(key), null);
+        } catch (FeignException e) {
+            if (e.status() >= 400 && e.status() < 500) {
+                return new Lookup<>(null, e);
+            }
+            throw e;
+        }
+    }
+
+    private <K, V> AsyncCache<K, Lookup<V>> newCache(MeterRegistry meterRegistry, String name, long maximumSize) {
+        AsyncCache<K, Lookup<V>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<K, Lookup<V>>() {
+                    @Override
+                    public long expireAfterCreate(K key, Lookup<V> value, long currentTime) {
+                        return (value.negative() ? negativeTtl : positiveTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(K key, Lookup<V> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(K key, Lookup<V> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), name);
+        return cache;
+    }
+
+    private record MemberKey(String teamId, String userId) {
+    }
+
+    // 조회 결과 - value 또는 Team의 4xx 응답(failure) 중 하나
+    private record Lookup<V>(V value, FeignException failure) {
+
+        boolean negative() {
+            return failure != null || Boolean.FALSE.equals(value)
+                    || (value instanceof TeamAccessResponse access && access.getPrincipalType() == null);
+        }
+    }
+}
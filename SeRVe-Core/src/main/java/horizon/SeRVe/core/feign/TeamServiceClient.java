@@ -1,11 +1,13 @@
 package horizon.SeRVe.core.feign;
 
 import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "serve-team", url = "${service.team.url}")
+// 호출부는 캐시를 거치는 CachingTeamServiceClient(@Primary)를 주입받음
+@FeignClient(name = "serve-team", url = "${service.team.url}", qualifiers = "teamServiceFeignClient", primary = false)
 public interface TeamServiceClient {
 
     @GetMapping("/internal/teams/{teamId}/exists")
@@ -17,6 +19,10 @@ public interface TeamServiceClient {
     @GetMapping("/internal/teams/{teamId}/members/{userId}/exists")
     Boolean memberExists(@PathVariable String teamId, @PathVariable String userId);
 
+    // 팀 존재 + 주체 유형(User/EdgeNode) + 멤버 역할을 한 번에 판정
+    @GetMapping("/internal/teams/{teamId}/access/{principalId}")
+    TeamAccessResponse checkAccess(@PathVariable String teamId, @PathVariable String principalId);
+
     @GetMapping("/internal/edge-nodes/{nodeId}/team-id")
     String getEdgeNodeTeamId(@PathVariable String nodeId);
 }
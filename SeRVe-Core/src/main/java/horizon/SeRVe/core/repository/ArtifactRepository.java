@@ -2,12 +2,22 @@ package horizon.SeRVe.core.repository;
 
 import horizon.SeRVe.core.entity.Artifact;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ArtifactRepository extends JpaRepository<Artifact, String> {
 
     List<Artifact> findByDemo_DemoId(String demoId);
+
+    // 팀 범위 조회 - Scenario/Demo에는 팀 컬럼이 없으므로 "{teamId}/"로 시작하는 objectKey로 소속 판정
+    List<Artifact> findByArtifactIdInAndObjectKeyStartingWith(Collection<String> artifactIds, String objectKeyPrefix);
+
+    // GC용: 주어진 키 중 아직 참조 중인 키
+    @Query("select distinct a.objectKey from Artifact a where a.objectKey in :objectKeys")
+    List<String> findReferencedObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
 }
@@ -1,13 +1,64 @@
 package horizon.SeRVe.core.repository;
 
+import horizon.SeRVe.core.dto.sync.ChangedTaskResponse;
 import horizon.SeRVe.core.entity.Task;
 import horizon.SeRVe.core.entity.EncryptedData;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EncryptedDataRepository extends JpaRepository<EncryptedData, String> {
     Optional<EncryptedData> findByTask(Task task);
+
+    // 동기화 델타 한 페이지: 변경된 행만 (team_id, change_seq) 인덱스로 조회해 DTO로 바로 반환 (엔티티/지연 로딩 없음)
+    // (change_seq, taskId) keyset - 백필로 같은 seq를 공유하는 행도 페이지 경계에서 빠지거나 중복되지 않음
+    // afterTaskId가 null이면 첫 페이지 (change_seq > afterSeq)
+    @Query("select new horizon.SeRVe.core.dto.sync.ChangedTaskResponse("
+            + "t.taskId, t.originalFileName, t.fileType, e.version, e.changeSeq, t.uploaderId) "
+            + "from EncryptedData e join e.task t "
+            + "where e.teamId = :teamId and (e.changeSeq > :afterSeq "
+            + "     or (e.changeSeq = :afterSeq and t.taskId > :afterTaskId)) "
+            + "order by e.changeSeq, t.taskId")
+    List<ChangedTaskResponse> findChangedTasks(@Param("teamId") String teamId,
+                                               @Param("afterSeq") long afterSeq,
+                                               @Param("afterTaskId") String afterTaskId,
+                                               Pageable pageable);
+
+    // 폐기된 lastSyncVersion 호환: 행 단위 version 필터 (version > lastVersion), taskId keyset 페이지
+    @Query("select new horizon.SeRVe.core.dto.sync.ChangedTaskResponse("
+            + "t.taskId, t.originalFileName, t.fileType, e.version, e.changeSeq, t.uploaderId) "
+            + "from EncryptedData e join e.task t "
+            + "where e.teamId = :teamId and e.version > :lastVersion "
+            + "and (:afterTaskId is null or t.taskId > :afterTaskId) "
+            + "order by t.taskId")
+    List<ChangedTaskResponse> findChangedTasksSinceVersion(@Param("teamId") String teamId,
+                                                           @Param("lastVersion") int lastVersion,
+                                                           @Param("afterTaskId") String afterTaskId,
+                                                           Pageable pageable);
+
+    // team_id 컬럼 도입 이전 행 채우기 (없으면 0건)
+    @Modifying
+    @Query("update EncryptedData e set e.teamId = "
+            + "(select t.teamId from Task t where t = e.task) where e.teamId is null")
+    int backfillTeamId();
+
+    // change_seq 컬럼 도입 이전 행에 시퀀스 부여
+    @Query("select distinct e.teamId from EncryptedData e where e.changeSeq is null and e.teamId is not null")
+    List<String> findTeamIdsWithoutChangeSeq();
+
+    @Modifying
+    @Query("update EncryptedData e set e.changeSeq = :seq where e.teamId = :teamId and e.changeSeq is null")
+    int backfillChangeSeq(@Param("teamId") String teamId, @Param("seq") long seq);
+
+    // GC용: 주어진 키 중 아직 참조 중인 키
+    @Query("select distinct e.objectKey from EncryptedData e where e.objectKey in :objectKeys")
+    List<String> findReferencedObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
 }
@@ -0,0 +1,58 @@
+package horizon.SeRVe.core.repository;
+
+import horizon.SeRVe.core.entity.PendingBlob;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PendingBlobRepository extends JpaRepository<PendingBlob, String> {
+
+    // GC 회수(claim)용: lease가 없거나 만료된 레코드를 잠금 → 같은 트랜잭션에서 lease 부여
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PendingBlob p where p.createdAt < :cutoff"
+            + " and (p.leaseId is null or p.leasedUntil < :now) order by p.createdAt asc")
+    List<PendingBlob> findClaimable(@Param("cutoff") LocalDateTime cutoff,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("update PendingBlob p set p.leaseId = :leaseId, p.leasedUntil = :leasedUntil where p.pendingId in :pendingIds")
+    int lease(@Param("pendingIds") Collection<String> pendingIds,
+              @Param("leaseId") String leaseId,
+              @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    // 처리가 끝난 레코드 삭제 (lease가 그대로인 행만 → 그 사이 supersede()로 다시 등록된 키는 남김)
+    @Modifying
+    @Query("delete from PendingBlob p where p.pendingId in :pendingIds and p.leaseId = :leaseId")
+    int deleteLeased(@Param("pendingIds") Collection<String> pendingIds, @Param("leaseId") String leaseId);
+
+    // S3 삭제 실패 → lease를 풀고 attempts 증가, 유예 기간을 다시 시작
+    @Modifying
+    @Query("update PendingBlob p set p.leaseId = null, p.leasedUntil = null, p.attempts = p.attempts + 1,"
+            + " p.createdAt = :now where p.pendingId in :pendingIds and p.leaseId = :leaseId")
+    int requeueLeased(@Param("pendingIds") Collection<String> pendingIds,
+                      @Param("leaseId") String leaseId,
+                      @Param("now") LocalDateTime now);
+
+    // 이미 큐에 있는 키가 다시 해제됨 → 회수 중이었다면 lease를 풀어 다음 회수에서 참조를 재확인
+    @Modifying
+    @Query("update PendingBlob p set p.leaseId = null, p.leasedUntil = null where p.objectKey = :objectKey")
+    int releaseLease(@Param("objectKey") String objectKey);
+
+    // 삭제된 행 수 반환 → 0이면 이미 GC가 회수한(회수 중인) 레코드
+    @Modifying
+    @Query("delete from PendingBlob p where p.objectKey in :objectKeys and p.leaseId is null")
+    int deleteByObjectKeyIn(@Param("objectKeys") Collection<String> objectKeys);
+
+    long countByCreatedAtBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,32 @@
+package horizon.SeRVe.core.repository;
+
+import horizon.SeRVe.core.entity.StoredBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    Optional<StoredBlob> findFirstByTeamIdAndContentHash(String teamId, String contentHash);
+
+    Optional<StoredBlob> findByObjectKey(String objectKey);
+
+    // refCount는 동시 업로드/삭제 간 lost update가 없도록 원자적 UPDATE로만 변경
+    @Modifying
+    @Query("update StoredBlob b set b.refCount = b.refCount + 1 where b.objectKey = :objectKey")
+    int incrementRefCount(@Param("objectKey") String objectKey);
+
+    @Modifying
+    @Query("update StoredBlob b set b.refCount = b.refCount - 1 where b.objectKey = :objectKey and b.refCount > 0")
+    int decrementRefCount(@Param("objectKey") String objectKey);
+
+    // 삭제된 행 수 반환 → 1이면 마지막 참조가 사라진 오브젝트
+    @Modifying
+    @Query("delete from StoredBlob b where b.objectKey = :objectKey and b.refCount = 0")
+    int deleteUnreferenced(@Param("objectKey") String objectKey);
+}
@@ -1,9 +1,14 @@
 package horizon.SeRVe.core.repository;
 
 import horizon.SeRVe.core.entity.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,9 +17,36 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findAllByTeamId(String teamId);
 
+    // 목록 조회용 keyset 페이지네이션 (최신순) - idx_tasks_team_uploaded (team_id, uploaded_at, id) 사용
+    // cursorAt/cursorId가 null이면 첫 페이지, fileType/uploaderId가 null이면 해당 필터 미적용
+    @Query("select t from Task t where t.teamId = :teamId "
+            + "and (:fileType is null or t.fileType = :fileType) "
+            + "and (:uploaderId is null or t.uploaderId = :uploaderId) "
+            + "and (:cursorAt is null or t.uploadedAt < :cursorAt "
+            + "     or (t.uploadedAt = :cursorAt and t.id < :cursorId)) "
+            + "order by t.uploadedAt desc, t.id desc")
+    List<Task> findPageByTeamId(@Param("teamId") String teamId,
+                                @Param("fileType") String fileType,
+                                @Param("uploaderId") String uploaderId,
+                                @Param("cursorAt") LocalDateTime cursorAt,
+                                @Param("cursorId") Long cursorId,
+                                Pageable pageable);
+
     Optional<Task> findByTaskId(String taskId);
 
     Optional<Task> findByTeamIdAndOriginalFileName(String teamId, String originalFileName);
 
     List<Task> findAllByTaskIdIn(List<String> taskIds);
+
+    // 배치 presigned URL 발급용: 팀 소속 태스크와 EncryptedData를 한 번에 조회
+    @Query("select t from Task t join fetch t.encryptedData "
+            + "where t.teamId = :teamId and t.taskId in :taskIds")
+    List<Task> findAllWithDataByTeamIdAndTaskIdIn(@Param("teamId") String teamId,
+                                                  @Param("taskIds") Collection<String> taskIds);
+
+    // 배치 업로드용: 기존 태스크와 EncryptedData를 한 번에 조회
+    @Query("select t from Task t left join fetch t.encryptedData "
+            + "where t.teamId = :teamId and t.originalFileName in :fileNames")
+    List<Task> findAllWithDataByTeamIdAndOriginalFileNameIn(@Param("teamId") String teamId,
+                                                           @Param("fileNames") Collection<String> fileNames);
 }
@@ -0,0 +1,20 @@
+package horizon.SeRVe.core.repository;
+
+import horizon.SeRVe.core.entity.TeamChangeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TeamChangeSequenceRepository extends JpaRepository<TeamChangeSequence, String> {
+
+    // 원자적 증가 - 갱신한 행은 호출자 트랜잭션이 끝날 때까지 잠금 유지 (0이면 시퀀스 행 없음)
+    @Modifying
+    @Query("update TeamChangeSequence s set s.lastSeq = s.lastSeq + 1 where s.teamId = :teamId")
+    int increment(@Param("teamId") String teamId);
+
+    @Query("select s.lastSeq from TeamChangeSequence s where s.teamId = :teamId")
+    long findLastSeq(@Param("teamId") String teamId);
+}
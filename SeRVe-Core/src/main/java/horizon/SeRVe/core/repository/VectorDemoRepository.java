@@ -2,8 +2,12 @@ package horizon.SeRVe.core.repository;
 
 import horizon.SeRVe.core.entity.VectorDemo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +18,26 @@ public interface VectorDemoRepository extends JpaRepository<VectorDemo, String>
 
     List<VectorDemo> findByTaskIdAndVersionGreaterThanOrderByDemoIndexAsc(String taskId, int lastVersion);
 
+    List<VectorDemo> findByTeamIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(String teamId, long lastSeq);
+
+    // 폐기된 lastVersion 동기화 호환 (행 단위 version 필터)
     List<VectorDemo> findByTeamIdAndVersionGreaterThanOrderByVersionAsc(String teamId, int lastVersion);
 
     Optional<VectorDemo> findByTaskIdAndDemoIndex(String taskId, int demoIndex);
 
     List<VectorDemo> findByTaskId(String taskId);
+
+    List<VectorDemo> findByTeamIdAndDemoIdInAndIsDeletedFalse(String teamId, Collection<String> demoIds);
+
+    // change_seq 컬럼 도입 이전 행에 시퀀스 부여
+    @Query("select distinct d.teamId from VectorDemo d where d.changeSeq is null")
+    List<String> findTeamIdsWithoutChangeSeq();
+
+    @Modifying
+    @Query("update VectorDemo d set d.changeSeq = :seq where d.teamId = :teamId and d.changeSeq is null")
+    int backfillChangeSeq(@Param("teamId") String teamId, @Param("seq") long seq);
+
+    // GC용: 주어진 키 중 살아있는(논리 삭제되지 않은) 데모가 참조 중인 키
+    @Query("select distinct d.objectKey from VectorDemo d where d.objectKey in :objectKeys and d.isDeleted = false")
+    List<String> findReferencedObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
 }
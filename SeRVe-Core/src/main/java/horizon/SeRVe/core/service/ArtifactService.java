@@ -68,6 +68,8 @@ public class ArtifactService {
                 .build());
 
         // 3. objectKey 생성: {teamId}/{scenarioId}/{demoId}/{filename}
+        //    Artifact는 중복 제거하지 않음 - 해시/nonce/DEK는 클라이언트가 선언한 값일 뿐 서버가 PUT된 바이트를 검증하지 않으므로
+        //    다른 업로더의 오브젝트를 공유시키면 먼저 올린 쪽이 내용을 좌우할 수 있음
         String objectKey = request.getTeamId()
                 + "/" + scenario.getScenarioId()
                 + "/" + demo.getDemoId()
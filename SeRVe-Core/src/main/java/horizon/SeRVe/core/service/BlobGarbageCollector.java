@@ -0,0 +1,222 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.entity.PendingBlob;
+import horizon.SeRVe.core.repository.ArtifactRepository;
+import horizon.SeRVe.core.repository.EncryptedDataRepository;
+import horizon.SeRVe.core.repository.PendingBlobRepository;
+import horizon.SeRVe.core.repository.VectorDemoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * S3 오브젝트 삭제 큐(pending_blobs) 백그라운드 워커.
+ *
+ * 요청 스레드는 삭제할 objectKey를 큐에 넣고 바로 반환하며, 이 워커가 주기적으로
+ * 1. 유예 기간이 지난 레코드를 최대 1000건씩 lease로 회수(claim)
+ * 2. 아직 메타데이터가 참조 중인 키 제외 (IN 쿼리 일괄 확인)
+ * 3. 나머지를 DeleteObjects 한 번으로 삭제, 요청 단위 실패는 백오프 재시도
+ * 4. 결과 확정 후 삭제/참조 중인 레코드는 제거, 키 단위 실패는 lease를 풀고 attempts 증가
+ *    (max-attempts 초과 시 포기)
+ * 를 큐가 빌 때까지 반복합니다.
+ * 2~4 도중 예외가 나거나 파드가 죽으면 레코드는 lease가 걸린 채 남고, lease-timeout 후 다시 회수됩니다.
+ */
+@Slf4j
+@Service
+public class BlobGarbageCollector {
+
+    private final PendingBlobRepository pendingBlobRepository;
+    private final EncryptedDataRepository encryptedDataRepository;
+    private final VectorDemoRepository vectorDemoRepository;
+    private final ArtifactRepository artifactRepository;
+    private final S3StorageService s3StorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+    private final Duration leaseTimeout;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int deleteRetries;
+    private final Duration retryBackoff;
+
+    private final Counter deletedCounter;
+    private final Counter skippedCounter;
+    private final Counter requeuedCounter;
+    private final Counter abandonedCounter;
+    private final Timer runTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public BlobGarbageCollector(PendingBlobRepository pendingBlobRepository,
+                                EncryptedDataRepository encryptedDataRepository,
+                                VectorDemoRepository vectorDemoRepository,
+                                ArtifactRepository artifactRepository,
+                                S3StorageService s3StorageService,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${storage.gc.grace-period:PT1H}") Duration gracePeriod,
+                                @Value("${storage.gc.batch-size:1000}") int batchSize,
+                                @Value("${storage.gc.max-attempts:5}") int maxAttempts,
+                                @Value("${storage.gc.delete-retries:3}") int deleteRetries,
+                                @Value("${storage.gc.retry-backoff:PT1S}") Duration retryBackoff,
+                                @Value("${storage.gc.lease-timeout:PT10M}") Duration leaseTimeout) {
+        this.pendingBlobRepository = pendingBlobRepository;
+        this.encryptedDataRepository = encryptedDataRepository;
+        this.vectorDemoRepository = vectorDemoRepository;
+        this.artifactRepository = artifactRepository;
+        this.s3StorageService = s3StorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = Math.min(batchSize, S3StorageService.MAX_DELETE_BATCH);
+        this.maxAttempts = maxAttempts;
+        this.deleteRetries = deleteRetries;
+        this.retryBackoff = retryBackoff;
+        this.leaseTimeout = leaseTimeout;
+
+        this.deletedCounter = meterRegistry.counter("serve.storage.gc.objects", "result", "deleted");
+        this.skippedCounter = meterRegistry.counter("serve.storage.gc.objects", "result", "referenced");
+        this.requeuedCounter = meterRegistry.counter("serve.storage.gc.objects", "result", "requeued");
+        this.abandonedCounter = meterRegistry.counter("serve.storage.gc.objects", "result", "abandoned");
+        this.runTimer = meterRegistry.timer("serve.storage.gc.run");
+        meterRegistry.gauge("serve.storage.gc.backlog", backlog);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.gc.interval:PT1M}",
+            initialDelayString = "${storage.gc.interval:PT1M}")
+    public void collect() {
+        runTimer.record(() -> {
+            int claimed;
+            do {
+                claimed = collectBatch();
+            } while (claimed == batchSize);
+
+            backlog.set(pendingBlobRepository.countByCreatedAtBefore(LocalDateTime.now().minus(gracePeriod)));
+        });
+    }
+
+    // 한 배치 처리 → 회수한 레코드 수 반환
+    int collectBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        String leaseId = UUID.randomUUID().toString();
+
+        // 1. 회수: 잠근 레코드에 lease 부여 → lease 중에는 resolve()가 실패하고 다른 워커도 가져가지 않음
+        List<PendingBlob> claimed = transactionTemplate.execute(status -> {
+            List<PendingBlob> stale = pendingBlobRepository
+                    .findClaimable(now.minus(gracePeriod), now, PageRequest.of(0, batchSize));
+            if (!stale.isEmpty()) {
+                pendingBlobRepository.lease(pendingIds(stale), leaseId, now.plus(leaseTimeout));
+            }
+            return stale;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 아직 참조 중인 키 제외
+        Set<String> referenced = findReferencedKeys(claimed.stream()
+                .map(PendingBlob::getObjectKey)
+                .collect(Collectors.toList()));
+        List<PendingBlob> orphans = claimed.stream()
+                .filter(pending -> !referenced.contains(pending.getObjectKey()))
+                .collect(Collectors.toList());
+        skippedCounter.increment(claimed.size() - orphans.size());
+
+        // 3. 일괄 삭제
+        Set<String> failed = deleteWithRetry(orphans.stream()
+                .map(PendingBlob::getObjectKey)
+                .collect(Collectors.toList()));
+        deletedCounter.increment(orphans.size() - failed.size());
+
+        // 4. 결과 반영: 실패한 키는 재등록, 나머지(삭제 완료/참조 중) 레코드는 제거
+        transactionTemplate.execute(status -> {
+            List<PendingBlob> retries = requeue(claimed.stream()
+                    .filter(pending -> failed.contains(pending.getObjectKey()))
+                    .collect(Collectors.toList()), leaseId);
+            List<PendingBlob> done = claimed.stream()
+                    .filter(pending -> !retries.contains(pending))
+                    .collect(Collectors.toList());
+            if (!done.isEmpty()) {
+                pendingBlobRepository.deleteLeased(pendingIds(done), leaseId);
+            }
+            return null;
+        });
+
+        log.info("Blob GC: {}건 회수, {}건 삭제, {}건 참조 중, {}건 실패",
+                claimed.size(), orphans.size() - failed.size(), claimed.size() - orphans.size(), failed.size());
+        return claimed.size();
+    }
+
+    private Set<String> findReferencedKeys(List<String> objectKeys) {
+        Set<String> referenced = new HashSet<>(encryptedDataRepository.findReferencedObjectKeys(objectKeys));
+        referenced.addAll(vectorDemoRepository.findReferencedObjectKeys(objectKeys));
+        referenced.addAll(artifactRepository.findReferencedObjectKeys(objectKeys));
+        return referenced;
+    }
+
+    // 요청 자체가 실패하면(스로틀링, 네트워크) 지수 백오프로 재시도, 그래도 실패하면 전체를 실패로 처리
+    private Set<String> deleteWithRetry(List<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return Collections.emptySet();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new HashSet<>(s3StorageService.deleteAll(objectKeys));
+            } catch (RuntimeException e) {
+                if (attempt >= deleteRetries || !backoff(attempt)) {
+                    log.warn("S3 일괄 삭제 실패 ({}건) - 큐에 재등록", objectKeys.size(), e);
+                    return new HashSet<>(objectKeys);
+                }
+            }
+        }
+    }
+
+    // 재시도할 레코드 반환 (max-attempts에 도달한 레코드는 포기 → 호출자가 제거)
+    private List<PendingBlob> requeue(List<PendingBlob> failed, String leaseId) {
+        if (failed.isEmpty()) {
+            return List.of();
+        }
+        List<PendingBlob> retries = failed.stream()
+                .filter(pending -> pending.getAttempts() + 1 < maxAttempts)
+                .collect(Collectors.toList());
+        if (!retries.isEmpty()) {
+            pendingBlobRepository.requeueLeased(pendingIds(retries), leaseId, LocalDateTime.now());
+        }
+        requeuedCounter.increment(retries.size());
+
+        int abandoned = failed.size() - retries.size();
+        if (abandoned > 0) {
+            abandonedCounter.increment(abandoned);
+            log.error("S3 오브젝트 삭제 {}회 실패로 포기 ({}건) - 수동 정리 필요", maxAttempts, abandoned);
+        }
+        return retries;
+    }
+
+    private static List<String> pendingIds(List<PendingBlob> pendings) {
+        return pendings.stream().map(PendingBlob::getPendingId).collect(Collectors.toList());
+    }
+
+    // 인터럽트되면 false → 회수한 레코드를 잃지 않도록 재등록 경로로
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoff.multipliedBy(1L << (attempt - 1)).toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.entity.PendingBlob;
+import horizon.SeRVe.core.repository.PendingBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 2단계 쓰기(S3 업로드 → 짧은 메타데이터 트랜잭션)의 정합성 관리.
+ *
+ * 1. register(): 업로드 전에 새 objectKey를 pending_blobs에 기록하고 즉시 커밋
+ * 2. (트랜잭션 밖에서 S3 업로드)
+ * 3. resolve(): 메타데이터 트랜잭션 안에서 pending 레코드 제거, 밀려난 이전 objectKey는 pending으로 전환
+ *
+ * 업로드나 메타데이터 커밋이 실패하면 pending 레코드가 남고, 삭제/덮어쓰기/논리 삭제로 참조가 사라진 오브젝트도
+ * supersede()로 같은 큐에 들어갑니다. BlobGarbageCollector가 유예 기간 후 어떤 메타데이터도 참조하지 않는
+ * 오브젝트를 S3에서 일괄 삭제합니다.
+ * 메타데이터는 업로드가 끝난 뒤에만 기록되므로 존재하지 않는 오브젝트를 가리키는 메타데이터는 생기지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlobReconciliationService {
+
+    private final PendingBlobRepository pendingBlobRepository;
+
+    // 업로드 시작 전 등록 (호출자 트랜잭션과 무관하게 즉시 커밋)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void register(String teamId, Collection<String> objectKeys) {
+        pendingBlobRepository.saveAll(objectKeys.stream()
+                .map(objectKey -> PendingBlob.builder()
+                        .pendingId(UUID.randomUUID().toString())
+                        .teamId(teamId)
+                        .objectKey(objectKey)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    // 메타데이터 트랜잭션 안에서 호출: 업로드 확정
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void resolve(Collection<String> objectKeys) {
+        int removed = pendingBlobRepository.deleteByObjectKeyIn(objectKeys);
+        if (removed != objectKeys.size()) {
+            // 유예 기간을 넘겨 BlobGarbageCollector가 이미 회수(삭제)한 업로드
+            throw new IllegalStateException("업로드 유효 시간이 지났습니다. 다시 업로드해주세요.");
+        }
+    }
+
+    // 메타데이터 트랜잭션 안에서 호출: 덮어쓰기/삭제로 더 이상 참조되지 않는 오브젝트를 삭제 큐에 등록
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void supersede(String teamId, String previousObjectKey) {
+        // 공유 오브젝트가 유예 기간 내에 다시 해제된 경우 이미 등록되어 있음
+        if (previousObjectKey == null || pendingBlobRepository.releaseLease(previousObjectKey) > 0) {
+            return;
+        }
+        pendingBlobRepository.save(PendingBlob.builder()
+                .pendingId(UUID.randomUUID().toString())
+                .teamId(teamId)
+                .objectKey(previousObjectKey)
+                .build());
+    }
+}
@@ -0,0 +1,141 @@
+package horizon.SeRVe.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import horizon.SeRVe.core.entity.TeamChangeSequence;
+import horizon.SeRVe.core.repository.TeamChangeSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 팀 단위 변경 시퀀스 발급.
+ *
+ * 메타데이터 트랜잭션당 팀별로 한 번만 증가시키고, 같은 트랜잭션에서 바뀐 행은 모두 같은 seq를 받습니다.
+ * 증가시킨 시퀀스 행은 커밋까지 잠겨 있으므로 같은 팀의 다음 트랜잭션은 앞선 변경이 커밋된 뒤에야 seq를 받습니다.
+ * 따라서 "seq > 커서" 조회는 나중에 커밋되는 더 작은 seq를 놓치지 않습니다.
+ * 발급 시 TeamChangedEvent를 발행하며, 구독자 알림은 커밋 이후에만 전달됩니다 (SyncNotificationService).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeSequenceService {
+
+    // 같은 (파라미터, 팀)의 폐기 경고는 이 간격에 한 번만 기록 (구버전 클라이언트는 매 폴링마다 보냄)
+    private static final Duration LEGACY_WARN_INTERVAL = Duration.ofMinutes(10);
+
+    private final TeamChangeSequenceRepository teamChangeSequenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Cache<String, Boolean> legacyWarned = Caffeine.newBuilder()
+            .expireAfterWrite(LEGACY_WARN_INTERVAL)
+            .maximumSize(10_000)
+            .build();
+
+    // 동기화 커서 결정 - lastSeq가 있으면 팀 seq 커서
+    // 구버전 클라이언트의 lastVersion/lastSyncVersion(행 단위 @Version)은 팀 seq로 환산할 수 없으므로 기존 version 필터로 응답
+    // 응답 항목에 seq가 포함되므로 클라이언트가 그 값을 lastSeq로 보내기 시작하면 다음 요청부터 seq 커서로 전환
+    public SyncCursor syncCursor(String teamId, Long lastSeq, String legacyName, Integer legacyValue) {
+        if (lastSeq != null) {
+            return SyncCursor.ofSeq(lastSeq);
+        }
+        if (legacyValue == null) {
+            return SyncCursor.ofSeq(0L);
+        }
+        if (legacyWarned.asMap().putIfAbsent(legacyName + ":" + teamId, Boolean.TRUE) == null) {
+            log.warn("폐기된 동기화 파라미터 {}={} (teamId={}) - version 필터로 응답, lastSeq로 전환 필요 (같은 경고는 {} 동안 생략)",
+                    legacyName, legacyValue, teamId, LEGACY_WARN_INTERVAL);
+        }
+        return SyncCursor.ofLegacyVersion(legacyValue);
+    }
+
+    // 동기화 커서: 팀 seq 또는 폐기된 행 단위 version (legacyVersion이 null이 아니면 version 필터)
+    public record SyncCursor(long seq, Integer legacyVersion) {
+
+        static SyncCursor ofSeq(long seq) {
+            return new SyncCursor(seq, null);
+        }
+
+        static SyncCursor ofLegacyVersion(int version) {
+            return new SyncCursor(0L, version);
+        }
+
+        public boolean isLegacy() {
+            return legacyVersion != null;
+        }
+    }
+
+    // 메타데이터 트랜잭션 안에서 호출: 이 트랜잭션의 변경에 기록할 seq
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(String teamId) {
+        return allocatedInTransaction().computeIfAbsent(teamId, this::increment);
+    }
+
+    private long increment(String teamId) {
+        if (teamChangeSequenceRepository.increment(teamId) == 0) {
+            initialize(teamId);
+            teamChangeSequenceRepository.increment(teamId);
+        }
+        long seq = teamChangeSequenceRepository.findLastSeq(teamId);
+        eventPublisher.publishEvent(new TeamChangedEvent(teamId, seq));
+        return seq;
+    }
+
+    // 팀의 첫 변경 시 시퀀스 행 생성 (호출자 트랜잭션과 무관하게 즉시 커밋, 동시에 생성한 쪽이 있으면 그 행을 사용)
+    private void initialize(String teamId) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (!teamChangeSequenceRepository.existsById(teamId)) {
+                    teamChangeSequenceRepository.saveAndFlush(TeamChangeSequence.builder()
+                            .teamId(teamId)
+                            .lastSeq(0)
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 먼저 생성함
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> allocatedInTransaction() {
+        Map<String, Long> allocated = (Map<String, Long>) TransactionSynchronizationManager.getResource(this);
+        if (allocated == null) {
+            Map<String, Long> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(ChangeSequenceService.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(ChangeSequenceService.this, created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequenceService.this);
+                }
+            });
+            allocated = created;
+        }
+        return allocated;
+    }
+}
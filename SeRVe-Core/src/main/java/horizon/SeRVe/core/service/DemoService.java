@@ -1,7 +1,7 @@
 package horizon.SeRVe.core.service;
 
-import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
-import horizon.SeRVe.common.dto.feign.UserInfoResponse;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
+import horizon.SeRVe.common.feign.UserEmailLookup;
 import horizon.SeRVe.common.service.RateLimitService;
 import horizon.SeRVe.core.dto.demo.*;
 import horizon.SeRVe.core.entity.*;
@@ -9,15 +9,21 @@ import horizon.SeRVe.core.feign.AuthServiceClient;
 import horizon.SeRVe.core.feign.TeamServiceClient;
 import horizon.SeRVe.core.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DemoService {
@@ -28,89 +34,209 @@ public class DemoService {
     private final AuthServiceClient authServiceClient;
     private final RateLimitService rateLimitService;
     private final S3StorageService s3StorageService;
+    private final BlobReconciliationService blobReconciliationService;
+    private final StoredBlobService storedBlobService;
+    private final ChangeSequenceService changeSequenceService;
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 업로드는 트랜잭션 밖에서 S3 전송 후 짧은 메타데이터 트랜잭션만 수행
     public void uploadDemos(String teamId, String fileName, String userId, DemoUploadRequest request) {
-        // 1. 팀 존재 확인
-        if (!teamServiceClient.teamExists(teamId)) {
-            throw new IllegalArgumentException("팀을 찾을 수 없습니다.");
+        String taskId = prepareUpload(teamId, fileName, userId);
+
+        // 4. [Phase 1] 데모별 콘텐츠 해시 계산 → 같은 팀에 동일 콘텐츠가 있으면 PUT 생략
+        //    나머지는 새 revision objectKey로 pending 등록 후 비동기 동시 업로드
+        List<DemoUpload> uploads = new ArrayList<>();
+        List<byte[]> payloads = new ArrayList<>();
+        for (DemoUploadItem item : request.getDemos()) {
+            byte[] blobData = Base64.getDecoder().decode(item.getEncryptedBlob());
+            String contentHash = StoredBlobService.hash(blobData);
+            Optional<String> sharedKey = storedBlobService.findObjectKey(teamId, contentHash);
+
+            if (sharedKey.isPresent()) {
+                uploads.add(new DemoUpload(item.getDemoIndex(), sharedKey.get(), contentHash, false));
+            } else {
+                uploads.add(new DemoUpload(item.getDemoIndex(),
+                        generateDemoObjectKey(teamId, taskId, item.getDemoIndex()), contentHash, true));
+                payloads.add(blobData);
+            }
         }
+        List<DemoUpload> toUpload = uploads.stream().filter(DemoUpload::uploaded).collect(Collectors.toList());
+        blobReconciliationService.register(teamId, objectKeysOf(toUpload));
 
-        // 1-1. Rate Limit 체크 (기존 로직 유지)
-        rateLimitService.checkAndRecordUpload(userId);
+        List<CompletableFuture<String>> transfers = new ArrayList<>();
+        for (int i = 0; i < toUpload.size(); i++) {
+            transfers.add(s3StorageService.uploadAsync(toUpload.get(i).objectKey(), payloads.get(i)));
+        }
 
-        // 2. 멤버십 및 권한 체크 (Federated Model: MEMBER 전용, ADMIN은 Key Master 역할만)
-        MemberRoleResponse memberRole = teamServiceClient.getMemberRole(teamId, userId);
-        if ("ADMIN".equals(memberRole.getRole())) {
-            throw new SecurityException("ADMIN은 데이터 업로드가 불가능합니다. MEMBER만 업로드할 수 있습니다.");
+        // 전송 완료 대기 (하나라도 실패하면 예외 → 메타데이터 변경 없음, 업로드된 오브젝트는 정리 잡이 회수)
+        CompletableFuture.allOf(transfers.toArray(CompletableFuture[]::new)).join();
+
+        // 5. [Phase 2] 메타데이터 반영
+        commitDemoMetadata(teamId, fileName, userId, taskId, uploads);
+    }
+
+    // Presigned 업로드 1단계: 데모별 PUT URL 발급 (바이너리는 Core를 거치지 않고 클라이언트 → S3 직접 전송)
+    public DemoUploadUrlResponse requestDemoUpload(String teamId, String userId, DemoUploadUrlRequest request) {
+        String taskId = prepareUpload(teamId, request.getFileName(), userId);
+
+        List<DemoUploadUrl> urls = new ArrayList<>();
+        for (Integer demoIndex : request.getDemoIndexes()) {
+            String objectKey = generateDemoObjectKey(teamId, taskId, demoIndex);
+            urls.add(DemoUploadUrl.builder()
+                    .demoIndex(demoIndex)
+                    .objectKey(objectKey)
+                    .presignedUrl(s3StorageService.generatePresignedUploadUrl(objectKey))
+                    .build());
         }
+        // 커밋되지 않은 업로드는 정리 잡이 회수
+        blobReconciliationService.register(teamId,
+                urls.stream().map(DemoUploadUrl::getObjectKey).collect(Collectors.toList()));
 
-        // 3. Task 찾거나 생성
-        Optional<Task> existingTask = taskRepository.findByTeamIdAndOriginalFileName(teamId, fileName);
-        Task task;
+        return DemoUploadUrlResponse.builder()
+                .taskId(taskId)
+                .uploads(urls)
+                .build();
+    }
+
+    // Presigned 업로드 2단계: S3 업로드 완료 후 메타데이터 커밋 (VectorDemo version 증가)
+    public void commitDemoUpload(String teamId, String userId, DemoCommitRequest request) {
+        checkUploadPermission(teamId, userId);
+        checkTaskOwnership(teamId, request.getFileName(), userId);
 
-        if (existingTask.isPresent()) {
-            task = existingTask.get();
-            // 3-1. 기존 태스크가 있으면 uploader 검증 (타인의 태스크 수정 방지)
-            if (!task.getUploaderId().equals(userId)) {
-                throw new SecurityException("타인의 태스크를 수정할 수 없습니다.");
+        String prefix = s3StorageService.objectKeyPrefix(teamId, request.getTaskId(), "demo");
+        List<DemoUpload> uploads = new ArrayList<>();
+        for (DemoCommitItem item : request.getDemos()) {
+            if (item.getObjectKey() == null || !item.getObjectKey().startsWith(prefix)) {
+                throw new IllegalArgumentException("유효하지 않은 objectKey입니다.");
             }
-        } else {
-            // 3-2. 새 태스크 생성
-            task = Task.builder()
-                    .taskId(UUID.randomUUID().toString())
-                    .teamId(teamId)
-                    .uploaderId(userId)
-                    .originalFileName(fileName)
-                    .fileType("application/octet-stream")
-                    .build();
-            task = taskRepository.save(task);
+            if (!s3StorageService.exists(item.getObjectKey())) {
+                throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다.");
+            }
+            uploads.add(new DemoUpload(item.getDemoIndex(), item.getObjectKey(), null, true));
         }
 
-        // 4. 각 데모 처리 (UPDATE or INSERT)
-        for (DemoUploadItem item : request.getDemos()) {
-            byte[] blobData = Base64.getDecoder().decode(item.getEncryptedBlob());
+        commitDemoMetadata(teamId, request.getFileName(), userId, request.getTaskId(), uploads);
+    }
 
-            Optional<VectorDemo> existingDemo = vectorDemoRepository
-                    .findByTaskIdAndDemoIndex(task.getTaskId(), item.getDemoIndex());
+    // 1. 팀 존재 확인  1-1. Rate Limit  2. 권한 체크  3. uploader 검증 → 업로드 대상 taskId 반환
+    private String prepareUpload(String teamId, String fileName, String userId) {
+        checkUploadPermission(teamId, userId);
+        rateLimitService.checkAndRecordUpload(userId);
 
-            if (existingDemo.isPresent()) {
-                // UPDATE: S3 덮어쓰기 후 objectKey 갱신 (version 자동 증가)
-                VectorDemo demo = existingDemo.get();
-                String objectKey = s3StorageService.upload(demo.getObjectKey(), blobData);
-                demo.updateObjectKey(objectKey);
-                demo.setDeleted(false);
-            } else {
-                // INSERT: S3 업로드 후 새 데모 생성 (version = 0)
-                String objectKey = s3StorageService.generateObjectKey(
-                        teamId, task.getTaskId(), "demo",
-                        "demo_" + item.getDemoIndex() + ".enc"
-                );
-                s3StorageService.upload(objectKey, blobData);
-
-                VectorDemo newDemo = VectorDemo.builder()
-                        .demoId(UUID.randomUUID().toString())
-                        .taskId(task.getTaskId())
-                        .teamId(teamId)
-                        .demoIndex(item.getDemoIndex())
-                        .objectKey(objectKey)
-                        .isDeleted(false)
-                        .build();
-                vectorDemoRepository.save(newDemo);
-            }
+        return checkTaskOwnership(teamId, fileName, userId)
+                .map(Task::getTaskId)
+                .orElseGet(() -> UUID.randomUUID().toString());
+    }
+
+    private void checkUploadPermission(String teamId, String userId) {
+        // 1. 팀 존재 확인  2. 멤버십 및 권한 체크 (Federated Model: MEMBER 전용, ADMIN은 Key Master 역할만)
+        TeamAccessResponse access = checkMemberAccess(teamId, userId);
+        if ("ADMIN".equals(access.getRole())) {
+            throw new SecurityException("ADMIN은 데이터 업로드가 불가능합니다. MEMBER만 업로드할 수 있습니다.");
         }
     }
 
-    @Transactional
-    public void deleteDemo(String teamId, String fileName, int demoIndex, String userId) {
-        // 1. 팀 존재 확인
-        if (!teamServiceClient.teamExists(teamId)) {
+    // 팀 존재 + 사람(User) 멤버 확인 - Team 접근 판정 API 한 번으로
+    private TeamAccessResponse checkMemberAccess(String teamId, String userId) {
+        TeamAccessResponse access = teamServiceClient.checkAccess(teamId, userId);
+        if (!access.isTeamExists()) {
             throw new IllegalArgumentException("팀을 찾을 수 없습니다.");
         }
+        if (!TeamAccessResponse.USER.equals(access.getPrincipalType())) {
+            throw new SecurityException("팀 멤버가 아닙니다.");
+        }
+        return access;
+    }
+
+    // 3. 기존 태스크가 있으면 uploader 검증 (타인의 태스크 수정 방지)
+    private Optional<Task> checkTaskOwnership(String teamId, String fileName, String userId) {
+        Optional<Task> existingTask = taskRepository.findByTeamIdAndOriginalFileName(teamId, fileName);
+        if (existingTask.isPresent() && !existingTask.get().getUploaderId().equals(userId)) {
+            throw new SecurityException("타인의 태스크를 수정할 수 없습니다.");
+        }
+        return existingTask;
+    }
+
+    private String generateDemoObjectKey(String teamId, String taskId, int demoIndex) {
+        return s3StorageService.generateObjectKey(teamId, taskId, "demo", "demo_" + demoIndex + ".enc");
+    }
 
-        // 2. ADMIN 권한 체크
-        MemberRoleResponse memberRole = teamServiceClient.getMemberRole(teamId, userId);
-        if (!"ADMIN".equals(memberRole.getRole())) {
+    private List<String> objectKeysOf(List<DemoUpload> uploads) {
+        return uploads.stream().map(DemoUpload::objectKey).collect(Collectors.toList());
+    }
+
+    // 메타데이터 반영 (UPDATE or INSERT) + pending 해제
+    private void commitDemoMetadata(String teamId, String fileName, String userId,
+                                    String taskId, List<DemoUpload> uploads) {
+        transactionTemplate.execute(status -> {
+            Task task = taskRepository.findByTeamIdAndOriginalFileName(teamId, fileName)
+                    .orElseGet(() -> taskRepository.save(Task.builder()
+                            .taskId(taskId)
+                            .teamId(teamId)
+                            .uploaderId(userId)
+                            .originalFileName(fileName)
+                            .fileType("application/octet-stream")
+                            .build()));
+
+            List<String> resolvedKeys = new ArrayList<>();
+            for (DemoUpload upload : uploads) {
+                Optional<VectorDemo> existingDemo = vectorDemoRepository
+                        .findByTaskIdAndDemoIndex(task.getTaskId(), upload.demoIndex());
+
+                if (existingDemo.isPresent() && !existingDemo.get().isDeleted()
+                        && storedBlobService.isSameContent(existingDemo.get().getObjectKey(), upload.contentHash())) {
+                    // 내용 변경 없음 -> version 유지 (엣지 노드 동기화 대상 아님)
+                    continue;
+                }
+
+                String objectKey = storedBlobService.acquire(teamId, upload.contentHash(), upload.objectKey());
+                if (upload.uploaded() && objectKey.equals(upload.objectKey())) {
+                    resolvedKeys.add(objectKey);
+                }
+
+                if (existingDemo.isPresent()) {
+                    // UPDATE: objectKey 교체 (version 자동 증가), 이전 오브젝트는 참조 해제
+                    // (논리 삭제된 데모는 삭제 시점에 이미 해제됨)
+                    VectorDemo demo = existingDemo.get();
+                    String previousObjectKey = demo.getObjectKey();
+                    boolean wasDeleted = demo.isDeleted();
+                    demo.updateObjectKey(objectKey, changeSequenceService.next(teamId));
+                    demo.setDeleted(false);
+                    if (!wasDeleted) {
+                        storedBlobService.release(teamId, previousObjectKey);
+                    }
+                } else {
+                    // INSERT: 새 데모 생성 (version = 0)
+                    VectorDemo newDemo = VectorDemo.builder()
+                            .demoId(UUID.randomUUID().toString())
+                            .taskId(task.getTaskId())
+                            .teamId(teamId)
+                            .demoIndex(upload.demoIndex())
+                            .objectKey(objectKey)
+                            .changeSeq(changeSequenceService.next(teamId))
+                            .isDeleted(false)
+                            .build();
+                    vectorDemoRepository.save(newDemo);
+                }
+            }
+            // 새로 올린 오브젝트가 실제로 참조될 때만 pending 해제 (중복으로 판명된 오브젝트는 정리 잡이 회수)
+            if (!resolvedKeys.isEmpty()) {
+                blobReconciliationService.resolve(resolvedKeys);
+            }
+            return null;
+        });
+    }
+
+    // contentHash: 알 수 없으면 null (presigned 업로드), uploaded: 이번 요청에서 objectKey로 새 오브젝트를 올렸는지
+    private record DemoUpload(int demoIndex, String objectKey, String contentHash, boolean uploaded) {
+    }
+
+    @Transactional
+    public void deleteDemo(String teamId, String fileName, int demoIndex, String userId) {
+        // 1. 팀 존재 확인  2. ADMIN 권한 체크
+        TeamAccessResponse access = checkMemberAccess(teamId, userId);
+        if (!"ADMIN".equals(access.getRole())) {
             throw new SecurityException("데모 삭제는 ADMIN 권한이 필요합니다.");
         }
 
@@ -118,56 +244,60 @@ public class DemoService {
         Task task = taskRepository.findByTeamIdAndOriginalFileName(teamId, fileName)
                 .orElseThrow(() -> new IllegalArgumentException("태스크를 찾을 수 없습니다."));
 
-        // 4. 데모 논리적 삭제 (version 자동 증가, 기존 로직 유지)
+        // 4. 데모 논리적 삭제 (팀 변경 시퀀스 기록, version 자동 증가)
         VectorDemo demo = vectorDemoRepository
                 .findByTaskIdAndDemoIndex(task.getTaskId(), demoIndex)
                 .orElseThrow(() -> new IllegalArgumentException("데모를 찾을 수 없습니다."));
 
-        demo.markAsDeleted();
+        // 5. tombstone은 동기화용으로 남기고 S3 오브젝트는 참조 해제 → 삭제 큐에서 회수
+        if (demo.isDeleted()) {
+            return;
+        }
+        storedBlobService.release(teamId, demo.getObjectKey());
+        demo.markAsDeleted(changeSequenceService.next(teamId));
     }
 
     @Transactional(readOnly = true)
-    public List<DemoSyncResponse> syncTeamDemos(String teamId, int lastVersion, String userId) {
-        // 1. 팀 존재 확인
-        if (!teamServiceClient.teamExists(teamId)) {
-            throw new IllegalArgumentException("팀을 찾을 수 없습니다.");
-        }
+    public List<DemoSyncResponse> syncTeamDemos(String teamId, long lastSeq, String userId) {
+        // 1~2. 팀 읽기 권한 체크: 팀 멤버(User) 또는 팀에 바인딩된 로봇(EdgeNode) - SSE 구독과 같은 판정
+        taskService.checkTeamReadPermission(teamId, userId);
 
-        // 2. 팀 멤버십 체크
-        if (!teamServiceClient.memberExists(teamId, userId)) {
-            throw new SecurityException("팀 멤버가 아닙니다.");
-        }
+        // 3. 팀의 모든 태스크에서 마지막 동기화 이후 변경된 데모만 (team_id, change_seq) 인덱스 범위로 조회
+        return toSyncResponses(vectorDemoRepository
+                .findByTeamIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(teamId, lastSeq));
+    }
 
-        // 3. 팀의 모든 태스크에서 변경된 데모 조회
-        List<VectorDemo> demos = vectorDemoRepository
-                .findByTeamIdAndVersionGreaterThanOrderByVersionAsc(teamId, lastVersion);
+    // 폐기된 lastVersion 호환: 기존과 같은 version > lastVersion 필터, 응답 형식은 동일 (각 항목의 seq로 전환 가능)
+    @Transactional(readOnly = true)
+    public List<DemoSyncResponse> syncTeamDemosSinceVersion(String teamId, int lastVersion, String userId) {
+        taskService.checkTeamReadPermission(teamId, userId);
+
+        return toSyncResponses(vectorDemoRepository
+                .findByTeamIdAndVersionGreaterThanOrderByVersionAsc(teamId, lastVersion));
+    }
 
+    private List<DemoSyncResponse> toSyncResponses(List<VectorDemo> demos) {
         // 4. Task 정보 조회 (N+1 방지: IN 쿼리 사용)
         List<String> taskIds = demos.stream()
                 .map(VectorDemo::getTaskId)
                 .distinct()
                 .collect(Collectors.toList());
 
-        // Task ID → Uploader Email 매핑 생성
-        java.util.Map<String, String> taskUploaderMap = taskRepository
+        // Task ID → Uploader ID, 업로더 이메일은 Auth 일괄 조회
+        Map<String, String> taskUploaderIds = taskRepository
                 .findAllByTaskIdIn(taskIds)
                 .stream()
-                .collect(Collectors.toMap(
-                        Task::getTaskId,
-                        task -> {
-                            try {
-                                UserInfoResponse userInfo = authServiceClient.getUserInfo(task.getUploaderId());
-                                return userInfo.getEmail();
-                            } catch (Exception e) {
-                                return "unknown";
-                            }
-                        }
-                ));
+                .collect(Collectors.toMap(Task::getTaskId, Task::getUploaderId));
+        Map<String, String> uploaderEmails = UserEmailLookup.findEmails(authServiceClient::getUserInfos,
+                taskUploaderIds.values());
 
         // 5. DemoSyncResponse 생성 (objectKey 포함, createdBy 포함)
         return demos.stream()
                 .map(demo -> {
-                    String createdBy = taskUploaderMap.getOrDefault(demo.getTaskId(), "unknown");
+                    String uploaderId = taskUploaderIds.get(demo.getTaskId());
+                    String createdBy = uploaderId != null
+                            ? uploaderEmails.getOrDefault(uploaderId, "unknown")
+                            : "unknown";
                     return DemoSyncResponse.from(demo, createdBy);
                 })
                 .collect(Collectors.toList());
@@ -0,0 +1,95 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.dto.presign.PresignedUrlBatchRequest;
+import horizon.SeRVe.core.dto.presign.PresignedUrlBatchResponse;
+import horizon.SeRVe.core.dto.presign.PresignedUrlItem;
+import horizon.SeRVe.core.entity.Artifact;
+import horizon.SeRVe.core.entity.Task;
+import horizon.SeRVe.core.entity.VectorDemo;
+import horizon.SeRVe.core.repository.ArtifactRepository;
+import horizon.SeRVe.core.repository.TaskRepository;
+import horizon.SeRVe.core.repository.VectorDemoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 다운로드용 presigned URL 일괄 발급 - 권한 확인 1회 + 종류별 IN 조회 1회 (신규 로봇 초기 동기화를 한 번의 왕복으로)
+@Service
+@RequiredArgsConstructor
+public class PresignedUrlService {
+
+    // 요청당 최대 ID 수 (종류 합계)
+    static final int MAX_BATCH_IDS = 1000;
+
+    private final TaskService taskService;
+    private final TaskRepository taskRepository;
+    private final VectorDemoRepository vectorDemoRepository;
+    private final ArtifactRepository artifactRepository;
+    private final S3StorageService s3StorageService;
+
+    // 권한 확인(Feign) 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (연관 엔티티는 조회 쿼리에서 함께 로딩)
+    public PresignedUrlBatchResponse getPresignedUrls(String teamId, String requesterId,
+                                                      PresignedUrlBatchRequest request) {
+        Set<String> taskIds = distinct(request.getTaskIds());
+        Set<String> demoIds = distinct(request.getDemoIds());
+        Set<String> artifactIds = distinct(request.getArtifactIds());
+        if (taskIds.size() + demoIds.size() + artifactIds.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_IDS + "개까지 요청할 수 있습니다.");
+        }
+
+        // 1. 팀 단위 권한 체크 1회 (팀 멤버 또는 팀 로봇)
+        taskService.checkTeamReadPermission(teamId, requesterId);
+
+        List<String> notFound = new ArrayList<>();
+
+        // 2. 태스크: 이 팀 소속만 조회
+        Map<String, String> taskKeys = taskIds.isEmpty() ? Map.of()
+                : taskRepository.findAllWithDataByTeamIdAndTaskIdIn(teamId, taskIds).stream()
+                        .collect(Collectors.toMap(Task::getTaskId, task -> task.getEncryptedData().getObjectKey()));
+
+        // 3. 데모: 이 팀 소속이면서 논리 삭제되지 않은 것만
+        Map<String, String> demoKeys = demoIds.isEmpty() ? Map.of()
+                : vectorDemoRepository.findByTeamIdAndDemoIdInAndIsDeletedFalse(teamId, demoIds).stream()
+                        .collect(Collectors.toMap(VectorDemo::getDemoId, VectorDemo::getObjectKey));
+
+        // 4. Artifact: 이 팀 소속만 (objectKey가 "{teamId}/"로 시작) - 다른 팀 Artifact는 notFound
+        Map<String, String> artifactKeys = artifactIds.isEmpty() ? Map.of()
+                : artifactRepository.findByArtifactIdInAndObjectKeyStartingWith(artifactIds, teamId + "/").stream()
+                        .collect(Collectors.toMap(Artifact::getArtifactId, Artifact::getObjectKey));
+
+        return PresignedUrlBatchResponse.builder()
+                .tasks(presign(taskIds, taskKeys, notFound))
+                .demos(presign(demoIds, demoKeys, notFound))
+                .artifacts(presign(artifactIds, artifactKeys, notFound))
+                .notFound(notFound)
+                .build();
+    }
+
+    // 요청 순서대로 URL 발급 (같은 오브젝트 반복 요청은 S3StorageService의 presign 캐시에서 재사용)
+    private List<PresignedUrlItem> presign(Set<String> ids, Map<String, String> objectKeys, List<String> notFound) {
+        List<PresignedUrlItem> items = new ArrayList<>();
+        for (String id : ids) {
+            String objectKey = objectKeys.get(id);
+            if (objectKey == null) {
+                notFound.add(id);
+                continue;
+            }
+            items.add(new PresignedUrlItem(id, s3StorageService.generatePresignedUrl(objectKey)));
+        }
+        return items;
+    }
+
+    private Set<String> distinct(Collection<String> ids) {
+        return ids == null ? Set.of() : ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -1,89 +1,144 @@
 package horizon.SeRVe.core.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import horizon.SeRVe.core.storage.BlobStore;
+import horizon.SeRVe.core.storage.PresignedUrl;
+import horizon.SeRVe.core.storage.S3BlobStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.InputStream;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+// 오브젝트 저장소 접근 진입점 - 실제 저장은 BlobStore 구현(S3 또는 로컬 파일시스템, storage.backend)에 위임
 @Service
 public class S3StorageService {
 
-    private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
-    private final String bucketName;
+    // 일괄 삭제 요청당 최대 키 수 (S3 DeleteObjects 제한)
+    public static final int MAX_DELETE_BATCH = S3BlobStore.MAX_DELETE_BATCH;
 
-    public S3StorageService(S3Client s3Client,
-                            S3Presigner s3Presigner,
-                            @Value("${aws.s3.bucket}") String bucketName) {
-        this.s3Client = s3Client;
-        this.s3Presigner = s3Presigner;
-        this.bucketName = bucketName;
+    private final BlobStore blobStore;
+    private final Duration presignTtl;
+    private final Duration presignReuseMargin;
+    private final Cache<PresignKey, PresignedUrl> presignCache;
+
+    public S3StorageService(BlobStore blobStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${aws.s3.presign.ttl:PT15M}") Duration presignTtl,
+                            @Value("${aws.s3.presign.reuse-margin:PT5M}") Duration presignReuseMargin,
+                            @Value("${aws.s3.presign.cache-size:10000}") long presignCacheSize) {
+        this.blobStore = blobStore;
+        this.presignTtl = presignTtl;
+        this.presignReuseMargin = presignReuseMargin;
+        this.presignCache = Caffeine.newBuilder()
+                .maximumSize(presignCacheSize)
+                .expireAfter(new PresignExpiry())
+                .recordStats()
+                .build();
+        // cache.gets{cache=s3.presign, result=hit|miss} 등
+        CaffeineCacheMetrics.monitor(meterRegistry, presignCache, "s3.presign");
     }
 
-    // 바이너리 업로드 → objectKey 반환
+    // 바이너리 업로드 → objectKey 반환 (S3는 임계값 이상이면 멀티파트 병렬 업로드)
     public String upload(String objectKey, byte[] data) {
-        PutObjectRequest request = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(objectKey)
-                .build();
-        s3Client.putObject(request, RequestBody.fromBytes(data));
+        blobStore.put(objectKey, data);
+        return objectKey;
+    }
+
+    // 스트림 업로드 → objectKey 반환 (본문 전체를 메모리에 올리지 않음, contentLength < 0 이면 길이 모름)
+    public String upload(String objectKey, InputStream data, long contentLength) {
+        blobStore.put(objectKey, data, contentLength);
         return objectKey;
     }
 
     // objectKey로 바이너리 다운로드
     public byte[] download(String objectKey) {
-        GetObjectRequest request = GetObjectRequest.builder()
-                .bucket(bucketName)
-                .key(objectKey)
-                .build();
-        return s3Client.getObjectAsBytes(request).asByteArray();
+        return blobStore.get(objectKey);
     }
 
-    // objectKey로 S3 오브젝트 삭제
+    // 오브젝트 존재 여부 (presigned 업로드 커밋 전 검증용)
+    public boolean exists(String objectKey) {
+        return blobStore.exists(objectKey);
+    }
+
+    // objectKey로 오브젝트 삭제
     public void delete(String objectKey) {
-        DeleteObjectRequest request = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(objectKey)
-                .build();
-        s3Client.deleteObject(request);
+        blobStore.delete(objectKey);
+    }
+
+    // 여러 오브젝트 일괄 삭제 → 삭제에 실패한 키 반환 (존재하지 않는 키는 성공으로 처리되므로 재시도해도 안전)
+    public List<String> deleteAll(List<String> objectKeys) {
+        return blobStore.deleteAll(objectKeys);
+    }
+
+    // ===== 비동기 API: 요청 스레드를 점유하지 않고 전송, 호출 측에서 다른 작업과 겹쳐 실행 가능 =====
+
+    // 비동기 업로드 → 완료 시 objectKey
+    public CompletableFuture<String> uploadAsync(String objectKey, byte[] data) {
+        return blobStore.putAsync(objectKey, data).thenApply(ignored -> objectKey);
     }
 
-    // Presigned URL 발급 (15분 유효) - 엣지/클라이언트가 S3에서 직접 다운로드
+    public CompletableFuture<byte[]> downloadAsync(String objectKey) {
+        return blobStore.getAsync(objectKey);
+    }
+
+    public CompletableFuture<Void> deleteAsync(String objectKey) {
+        return blobStore.deleteAsync(objectKey);
+    }
+
+    // Presigned URL 발급 (기본 15분 유효) - 엣지/클라이언트가 저장소에서 직접 다운로드
+    // 같은 오브젝트를 반복 요청하면 남은 유효 시간이 reuse-margin 이상인 동안 캐시된 URL 재사용
     public String generatePresignedUrl(String objectKey) {
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(15))
-                .getObjectRequest(GetObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(objectKey)
-                        .build())
-                .build();
-        return s3Presigner.presignGetObject(presignRequest).url().toString();
+        return presignCache.get(new PresignKey("GET", objectKey),
+                key -> blobStore.presignGet(objectKey, presignTtl)).url();
     }
 
-    // Presigned PUT URL 발급 (15분 유효) - 클라이언트가 S3에 직접 업로드
+    // Presigned PUT URL 발급 (기본 15분 유효) - 클라이언트가 저장소에 직접 업로드
     public String generatePresignedUploadUrl(String objectKey) {
-        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(15))
-                .putObjectRequest(PutObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(objectKey)
-                        .build())
-                .build();
-        return s3Presigner.presignPutObject(presignRequest).url().toString();
+        return presignCache.get(new PresignKey("PUT", objectKey),
+                key -> blobStore.presignPut(objectKey, presignTtl)).url();
+    }
+
+    private record PresignKey(String method, String objectKey) {
+    }
+
+    // 캐시 항목은 실제 만료 시각에서 reuse-margin을 뺀 시점까지만 유지 → 재사용된 URL은 항상 margin 이상 유효
+    private class PresignExpiry implements Expiry<PresignKey, PresignedUrl> {
+        @Override
+        public long expireAfterCreate(PresignKey key, PresignedUrl value, long currentTime) {
+            Duration reusable = Duration.between(Instant.now(), value.expiration()).minus(presignReuseMargin);
+            return reusable.isNegative() ? 0 : reusable.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(PresignKey key, PresignedUrl value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(PresignKey key, PresignedUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 
     // objectKey 생성 헬퍼
-    // 형식: {teamId}/{entityId}/{kind}/{filename}
+    // 형식: {teamId}/{entityId}/{kind}/{revision}/{filename}
+    // 업로드마다 새 revision을 사용 → 덮어쓰기 중에도 이전 오브젝트가 그대로 남아 메타데이터와 어긋나지 않음
     public String generateObjectKey(String teamId, String entityId, String kind, String filename) {
-        return teamId + "/" + entityId + "/" + kind + "/" + filename;
+        String revision = UUID.randomUUID().toString();
+        return objectKeyPrefix(teamId, entityId, kind) + revision + "/" + filename;
+    }
+
+    // 클라이언트가 전달한 objectKey가 해당 엔티티 소유인지 검증할 때 사용
+    public String objectKeyPrefix(String teamId, String entityId, String kind) {
+        return teamId + "/" + entityId + "/" + kind + "/";
     }
 }
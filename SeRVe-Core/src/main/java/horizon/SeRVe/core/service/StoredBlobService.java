@@ -0,0 +1,105 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.entity.StoredBlob;
+import horizon.SeRVe.core.repository.StoredBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 콘텐츠 해시 기반 S3 오브젝트 중복 제거 및 참조 카운트 관리.
+ *
+ * - findObjectKey(): 업로드 전 같은 팀에 동일 콘텐츠가 있는지 조회 → 있으면 PUT 생략
+ * - acquire(): 메타데이터 트랜잭션 안에서 참조 확정 (기존 오브젝트 공유 시 refCount 증가)
+ * - release(): 메타데이터가 더 이상 참조하지 않을 때 호출, 마지막 참조면 정리 대상으로 전환
+ *
+ * 해시를 알 수 없는 오브젝트(presigned 업로드 등)와 도입 이전 오브젝트는 stored_blobs에 없으며,
+ * 이 경우 release()는 곧바로 정리 대상으로 넘깁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StoredBlobService {
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final BlobReconciliationService blobReconciliationService;
+
+    @Transactional(readOnly = true)
+    public Optional<String> findObjectKey(String teamId, String contentHash) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+        return storedBlobRepository.findFirstByTeamIdAndContentHash(teamId, contentHash)
+                .map(StoredBlob::getObjectKey);
+    }
+
+    // 현재 참조 중인 오브젝트와 콘텐츠가 같은지 (같으면 덮어쓰기/version 증가 생략)
+    @Transactional(readOnly = true)
+    public boolean isSameContent(String objectKey, String contentHash) {
+        if (objectKey == null || contentHash == null) {
+            return false;
+        }
+        return storedBlobRepository.findByObjectKey(objectKey)
+                .map(blob -> blob.getContentHash().equals(contentHash))
+                .orElse(false);
+    }
+
+    // 참조 확정 → 메타데이터에 기록할 objectKey 반환
+    // 같은 팀에 동일 콘텐츠가 이미 있으면 그 objectKey를 공유 (candidateKey로 올린 중복 오브젝트는 pending으로 남아 정리됨)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String acquire(String teamId, String contentHash, String candidateKey) {
+        if (contentHash == null) {
+            return candidateKey;
+        }
+
+        Optional<StoredBlob> existing = storedBlobRepository.findFirstByTeamIdAndContentHash(teamId, contentHash);
+        if (existing.isPresent() && storedBlobRepository.incrementRefCount(existing.get().getObjectKey()) == 1) {
+            return existing.get().getObjectKey();
+        }
+
+        storedBlobRepository.save(StoredBlob.builder()
+                .blobId(UUID.randomUUID().toString())
+                .teamId(teamId)
+                .contentHash(contentHash)
+                .objectKey(candidateKey)
+                .refCount(1)
+                .build());
+        return candidateKey;
+    }
+
+    // 참조 해제 → 더 이상 아무도 참조하지 않아 정리 대상이 되었으면 true
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean release(String teamId, String objectKey) {
+        if (objectKey == null) {
+            return false;
+        }
+        if (storedBlobRepository.decrementRefCount(objectKey) == 1
+                && storedBlobRepository.deleteUnreferenced(objectKey) == 0) {
+            return false;
+        }
+        blobReconciliationService.supersede(teamId, objectKey);
+        return true;
+    }
+
+    public static String hash(byte[] content) {
+        return toHex(newDigest().digest(content));
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String toHex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+}
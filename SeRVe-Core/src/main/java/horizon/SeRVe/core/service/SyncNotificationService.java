@@ -0,0 +1,146 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.entity.TeamChangeSequence;
+import horizon.SeRVe.core.repository.TeamChangeSequenceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엣지 노드 동기화 변경 알림 (Server-Sent Events).
+ *
+ * 로봇은 팀별로 구독 연결 하나를 열어 두고, 팀의 태스크/데모가 바뀌어 커밋된 경우에만 "change" 이벤트를 받습니다.
+ * 이벤트를 받은 뒤에만 /api/sync/tasks, /api/sync/demos를 lastSeq로 호출하면 되므로 주기적 폴링이 필요 없습니다.
+ * 대기 중인 구독은 요청 스레드/DB 커넥션을 잡지 않으며 (비동기 요청), 인증·멤버십 확인은 구독 시 한 번만 수행합니다.
+ *
+ * 구독 시점에 팀 시퀀스가 이미 lastSeq보다 크면 즉시 알려 구독 직전의 변경도 놓치지 않습니다.
+ * 알림은 이 인스턴스에서 커밋된 변경만 전달되므로, 연결이 타임아웃되면 클라이언트는 동기화 후 다시 구독합니다.
+ */
+@Slf4j
+@Service
+public class SyncNotificationService {
+
+    private static final String CHANGE_EVENT = "change";
+
+    private final TeamChangeSequenceRepository teamChangeSequenceRepository;
+    private final TaskService taskService;
+    private final Duration subscriptionTimeout;
+    private final ExecutorService notifier;
+
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public SyncNotificationService(TeamChangeSequenceRepository teamChangeSequenceRepository,
+                                   TaskService taskService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${sync.subscription.timeout:PT5M}") Duration subscriptionTimeout,
+                                   @Value("${sync.subscription.notifier-threads:4}") int notifierThreads,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.teamChangeSequenceRepository = teamChangeSequenceRepository;
+        this.taskService = taskService;
+        this.subscriptionTimeout = subscriptionTimeout;
+        // 느린 클라이언트에 대한 전송이 커밋한 요청 스레드를 붙잡지 않도록 별도 스레드에서 전송
+        // 가상 스레드 모드에서는 알림마다 가상 스레드 (느린 구독자가 다른 팀 알림을 막지 않음)
+        if (virtualThreads) {
+            this.notifier = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sync-notifier-", 1).factory());
+        } else {
+            AtomicInteger threadIndex = new AtomicInteger();
+            this.notifier = Executors.newFixedThreadPool(notifierThreads, runnable -> {
+                Thread thread = new Thread(runnable, "sync-notifier-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        Gauge.builder("serve.sync.subscribers", subscriberCount, AtomicInteger::get)
+                .description("동기화 변경 알림 구독 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String teamId, String userId, long lastSeq) {
+        // 구독 주체는 주로 로봇 - 팀 멤버(User) 또는 팀에 등록된 로봇(EdgeNode)이면 허용
+        taskService.checkTeamReadPermission(teamId, userId);
+
+        SseEmitter emitter = newEmitter();
+        // 등록/해제는 팀 키 단위로 원자적으로 수행 (빈 집합 제거와 새 등록이 겹쳐도 구독이 유실되지 않음)
+        subscribers.compute(teamId, (id, set) -> {
+            Set<SseEmitter> teamSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            teamSubscribers.add(emitter);
+            return teamSubscribers;
+        });
+        subscriberCount.incrementAndGet();
+
+        AtomicBoolean registered = new AtomicBoolean(true);
+        Runnable unsubscribe = () -> {
+            if (!registered.compareAndSet(true, false)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(teamId, (id, set) -> {
+                set.remove(emitter);
+                return set.isEmpty() ? null : set;
+            });
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe.run());
+
+        // 등록 이후 현재 시퀀스 확인 → 확인과 등록 사이의 커밋도 이벤트 또는 이 확인 중 하나로 전달됨
+        long currentSeq = teamChangeSequenceRepository.findById(teamId)
+                .map(TeamChangeSequence::getLastSeq)
+                .orElse(0L);
+        if (currentSeq > lastSeq) {
+            send(emitter, new TeamChangedEvent(teamId, currentSeq));
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(subscriptionTimeout.toMillis());
+    }
+
+    // 변경 트랜잭션 커밋 후에만 알림 (롤백된 변경은 알리지 않음)
+    @TransactionalEventListener
+    public void onTeamChanged(TeamChangedEvent event) {
+        Set<SseEmitter> teamSubscribers = subscribers.get(event.teamId());
+        if (teamSubscribers == null || teamSubscribers.isEmpty()) {
+            return;
+        }
+        notifier.execute(() -> teamSubscribers.forEach(emitter -> send(emitter, event)));
+    }
+
+    private void send(SseEmitter emitter, TeamChangedEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(CHANGE_EVENT)
+                    .id(String.valueOf(event.seq()))
+                    .data(event, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 - 정리는 onError/onCompletion 콜백에서 처리
+            log.debug("동기화 알림 전송 실패: teamId={}", event.teamId(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        notifier.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(SseEmitter::complete));
+    }
+}
@@ -1,37 +1,117 @@
 package horizon.SeRVe.core.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import horizon.SeRVe.core.dto.sync.ChangedTaskResponse;
-import horizon.SeRVe.core.entity.Task;
 import horizon.SeRVe.core.feign.TeamServiceClient;
-import horizon.SeRVe.core.repository.TaskRepository;
-import lombok.RequiredArgsConstructor;
+import horizon.SeRVe.core.repository.EncryptedDataRepository;
+import horizon.SeRVe.core.repository.VectorDemoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SyncService {
 
-    private final TaskRepository taskRepository;
+    static final int PAGE_SIZE = 500;
+
+    private final EncryptedDataRepository encryptedDataRepository;
+    private final VectorDemoRepository vectorDemoRepository;
+    private final ChangeSequenceService changeSequenceService;
     private final TeamServiceClient teamServiceClient;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+
+    public SyncService(EncryptedDataRepository encryptedDataRepository,
+                       VectorDemoRepository vectorDemoRepository,
+                       ChangeSequenceService changeSequenceService,
+                       TeamServiceClient teamServiceClient,
+                       ObjectMapper objectMapper,
+                       Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.encryptedDataRepository = encryptedDataRepository;
+        this.vectorDemoRepository = vectorDemoRepository;
+        this.changeSequenceService = changeSequenceService;
+        this.teamServiceClient = teamServiceClient;
+        this.objectMapper = objectMapper;
+        // JSON 응답과 같은 Boot Jackson 설정(모듈, 날짜 형식, spring.jackson.*)으로 CBOR 매퍼 생성 (빌더 빈은 prototype)
+        this.cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+    }
 
-    @Transactional(readOnly = true)
-    public List<ChangedTaskResponse> getChangedTasks(String teamId, int lastSyncVersion) {
+    public void checkTeamExists(String teamId) {
         if (!teamServiceClient.teamExists(teamId)) {
             throw new IllegalArgumentException("존재하지 않는 팀입니다.");
         }
+    }
 
-        // 팀의 모든 태스크 조회
-        List<Task> allTasks = taskRepository.findAllByTeamId(teamId);
+    // 변경된 태스크(change_seq > lastSeq)만 인덱스로 페이지 단위 조회해 JSON 배열로 바로 기록
+    // 팀 전체를 메모리에 올리지 않으므로 비용은 변경된 행 수에만 비례
+    // 트랜잭션 없음: 페이지마다 짧은 조회 후 커넥션을 반납하고, 클라이언트 속도에 좌우되는 쓰기는 커넥션 없이 수행
+    // cbor: true면 같은 구조를 CBOR로 기록 (셀룰러 링크용 압축 표현)
+    public void writeChangedTasks(String teamId, long lastSeq, boolean cbor, OutputStream out) throws IOException {
+        writePages(cbor, out, last -> last == null
+                ? encryptedDataRepository.findChangedTasks(teamId, lastSeq, null, PageRequest.of(0, PAGE_SIZE))
+                : encryptedDataRepository.findChangedTasks(teamId, last.getSeq(), last.getTaskId(),
+                        PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    // 폐기된 lastSyncVersion 호환: 기존과 같은 version > lastVersion 필터, 응답 형식은 동일 (각 항목의 seq로 전환 가능)
+    public void writeChangedTasksSinceVersion(String teamId, int lastVersion, boolean cbor, OutputStream out)
+            throws IOException {
+        writePages(cbor, out, last -> encryptedDataRepository.findChangedTasksSinceVersion(
+                teamId, lastVersion, last != null ? last.getTaskId() : null, PageRequest.of(0, PAGE_SIZE)));
+    }
 
-        // 버전 필터링 (version > lastSyncVersion)
-        return allTasks.stream()
-                .filter(task -> task.getEncryptedData() != null &&
-                        task.getEncryptedData().getVersion() > lastSyncVersion)
-                .map(ChangedTaskResponse::from)
-                .collect(Collectors.toList());
+    // nextPage: 이전 페이지의 마지막 항목(첫 페이지는 null)을 받아 다음 페이지 조회
+    private void writePages(boolean cbor, OutputStream out,
+                            Function<ChangedTaskResponse, List<ChangedTaskResponse>> nextPage) throws IOException {
+        ObjectMapper mapper = cbor ? cborMapper : objectMapper;
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            ChangedTaskResponse last = null;
+            List<ChangedTaskResponse> page;
+            do {
+                page = nextPage.apply(last);
+                for (ChangedTaskResponse task : page) {
+                    mapper.writeValue(generator, task);
+                }
+                if (!page.isEmpty()) {
+                    last = page.get(page.size() - 1);
+                }
+            } while (page.size() == PAGE_SIZE);
+            generator.writeEndArray();
+        }
+    }
+
+    // team_id / change_seq 도입 이전에 저장된 행 채우기 (이미 채워져 있으면 0건)
+    // change_seq는 팀마다 새 시퀀스 하나를 부여 → lastSeq=0으로 처음 전환하는 클라이언트가 전체를 받음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillSyncColumns() {
+        int updated = encryptedDataRepository.backfillTeamId();
+        if (updated > 0) {
+            log.info("encrypted_data.team_id {}건 채움", updated);
+        }
+
+        Set<String> teamIds = new TreeSet<>(encryptedDataRepository.findTeamIdsWithoutChangeSeq());
+        teamIds.addAll(vectorDemoRepository.findTeamIdsWithoutChangeSeq());
+        for (String teamId : teamIds) {
+            long seq = changeSequenceService.next(teamId);
+            int stamped = encryptedDataRepository.backfillChangeSeq(teamId, seq)
+                    + vectorDemoRepository.backfillChangeSeq(teamId, seq);
+            log.info("팀 {} change_seq {}건 채움", teamId, stamped);
+        }
     }
 }
@@ -1,131 +1,523 @@
 package horizon.SeRVe.core.service;
 
-import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
+import horizon.SeRVe.common.security.jwt.JwtPrincipal;
 import horizon.SeRVe.core.dto.task.*;
 import horizon.SeRVe.core.entity.*;
-import horizon.SeRVe.core.feign.AuthServiceClient;
 import horizon.SeRVe.core.feign.TeamServiceClient;
 import horizon.SeRVe.core.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    // 목록 조회 페이지 크기 상한
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // 배치 업로드 상한: 디코딩 후 총 바이트, 동시 S3 전송 수
+    static final long MAX_BATCH_BYTES = 64L << 20;
+    private static final int MAX_BATCH_IN_FLIGHT = 4;
+
     private final TaskRepository taskRepository;
     private final EncryptedDataRepository encryptedDataRepository;
     private final VectorDemoRepository vectorDemoRepository;
     private final TeamServiceClient teamServiceClient;
-    private final AuthServiceClient authServiceClient;
     private final S3StorageService s3StorageService;
+    private final BlobReconciliationService blobReconciliationService;
+    private final StoredBlobService storedBlobService;
+    private final ChangeSequenceService changeSequenceService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 업로드는 트랜잭션 밖에서 S3 전송 후 짧은 메타데이터 트랜잭션만 수행 (saveTask 참고)
+    // 같은 팀에 동일한 암호문이 이미 있으면 S3 PUT을 생략하고 오브젝트를 공유 (StoredBlobService)
     public void uploadTask(String teamId, String userId, UploadTaskRequest req) {
-        // 1. 팀 존재 확인
-        if (!teamServiceClient.teamExists(teamId)) {
-            throw new IllegalArgumentException("저장소를 찾을 수 없습니다.");
-        }
+        checkUploadPermission(teamId, userId);
+
+        // 바이너리 변환
+        byte[] blobData = Base64.getDecoder().decode(req.getEncryptedBlob());
+
+        saveTask(teamId, userId, req.getFileName(), req.getFileType(),
+                objectKey -> storeBytes(teamId, objectKey, blobData));
+    }
+
+    // 스트리밍 업로드 (application/octet-stream, multipart) - Base64 디코딩 없이 요청 본문을 바로 S3로 전송
+    public void uploadTaskStream(String teamId, String userId, String fileName, String fileType,
+                                 InputStream content, long contentLength) {
+        checkUploadPermission(teamId, userId);
 
-        // 2. 멤버십 및 권한 검증
-        MemberRoleResponse memberRole = teamServiceClient.getMemberRole(teamId, userId);
-        if (!"ADMIN".equals(memberRole.getRole())) {
+        saveTask(teamId, userId, fileName, fileType,
+                objectKey -> storeStream(teamId, objectKey, content, contentLength));
+    }
+
+    // 1. 팀 존재 확인  2. 멤버십 및 권한 검증
+    private void checkUploadPermission(String teamId, String userId) {
+        TeamAccessResponse access = checkMemberAccess(teamId, userId);
+        if (!"ADMIN".equals(access.getRole())) {
             throw new SecurityException("태스크 업로드는 ADMIN 권한이 필요합니다.");
         }
+    }
 
-        // 3. 바이너리 변환
-        byte[] blobData = Base64.getDecoder().decode(req.getEncryptedBlob());
+    // blobWriter: 새 objectKey를 받아 바이너리를 저장 (동일 콘텐츠가 있으면 PUT 생략)
+    // [Phase 1] pending 등록 → S3 업로드 (DB 커넥션/락 미점유)
+    // [Phase 2] 짧은 트랜잭션으로 메타데이터 반영
+    private void saveTask(String teamId, String userId, String fileName, String fileType,
+                          Function<String, StoredObject> blobWriter) {
+        // 같은 이름의 파일이 있으면 같은 taskId 아래 새 revision으로 업로드
+        String taskId = taskRepository.findByTeamIdAndOriginalFileName(teamId, fileName)
+                .map(Task::getTaskId)
+                .orElseGet(() -> UUID.randomUUID().toString());
+        String objectKey = s3StorageService.generateObjectKey(teamId, taskId, "task", fileName);
 
-        // 같은 이름의 파일이 있는지 확인
-        Optional<Task> existingTask = taskRepository.findByTeamIdAndOriginalFileName(teamId, req.getFileName());
+        StoredObject stored = blobWriter.apply(objectKey);
 
-        if (existingTask.isPresent()) {
-            // [Case A] 이미 존재함 -> S3 덮어쓰기 후 objectKey 갱신 (Version Up)
-            Task task = existingTask.get();
-            EncryptedData data = task.getEncryptedData();
+        commitTaskMetadata(teamId, userId, fileName, fileType, taskId, stored);
+    }
 
-            String objectKey = s3StorageService.upload(data.getObjectKey(), blobData);
-            data.updateObjectKey(objectKey);
+    // 업로드 전 해시 계산 → 같은 팀에 동일 콘텐츠가 있으면 S3 PUT 생략하고 기존 오브젝트 공유
+    private StoredObject storeBytes(String teamId, String objectKey, byte[] blobData) {
+        String contentHash = StoredBlobService.hash(blobData);
+        Optional<String> sharedKey = storedBlobService.findObjectKey(teamId, contentHash);
+        if (sharedKey.isPresent()) {
+            return new StoredObject(sharedKey.get(), contentHash, false);
+        }
 
-        } else {
-            // [Case B] 없음 -> S3 업로드 후 신규 생성 (Version 1)
-            String taskId = UUID.randomUUID().toString();
-            String objectKey = s3StorageService.generateObjectKey(teamId, taskId, "task", req.getFileName());
-            s3StorageService.upload(objectKey, blobData);
+        blobReconciliationService.register(teamId, List.of(objectKey));
+        s3StorageService.upload(objectKey, blobData);
+        return new StoredObject(objectKey, contentHash, true);
+    }
 
-            Task task = Task.builder()
-                    .taskId(taskId)
-                    .teamId(teamId)
-                    .uploaderId(userId)
-                    .originalFileName(req.getFileName())
-                    .fileType(req.getFileType())
-                    .build();
+    // 스트림은 전송하면서 해시 계산 → 중복이면 커밋 시 기존 오브젝트를 참조하고 방금 올린 오브젝트는 정리 잡이 회수
+    private StoredObject storeStream(String teamId, String objectKey, InputStream content, long contentLength) {
+        blobReconciliationService.register(teamId, List.of(objectKey));
 
-            EncryptedData encryptedData = EncryptedData.builder()
-                    .dataId(UUID.randomUUID().toString())
-                    .task(task)
-                    .objectKey(objectKey)
-                    .build();
+        DigestInputStream digestStream = new DigestInputStream(content, StoredBlobService.newDigest());
+        s3StorageService.upload(objectKey, digestStream, contentLength);
+        return new StoredObject(objectKey, StoredBlobService.toHex(digestStream.getMessageDigest().digest()), true);
+    }
 
-            task.setEncryptedData(encryptedData);
-            taskRepository.save(task);
+    // objectKey: 메타데이터에 기록할 후보 키, contentHash: 알 수 없으면 null (presigned 업로드)
+    // uploaded: 이번 요청에서 objectKey로 새 오브젝트를 올렸는지 (pending 해제 대상)
+    private record StoredObject(String objectKey, String contentHash, boolean uploaded) {
+    }
+
+    // Presigned 업로드 1단계: PUT URL 발급 (바이너리는 Core를 거치지 않고 클라이언트 → S3 직접 전송)
+    public TaskUploadUrlResponse requestTaskUpload(String teamId, String userId, TaskUploadUrlRequest req) {
+        checkUploadPermission(teamId, userId);
+
+        String taskId = taskRepository.findByTeamIdAndOriginalFileName(teamId, req.getFileName())
+                .map(Task::getTaskId)
+                .orElseGet(() -> UUID.randomUUID().toString());
+        String objectKey = s3StorageService.generateObjectKey(teamId, taskId, "task", req.getFileName());
+
+        // 커밋되지 않은 업로드는 정리 잡이 회수
+        blobReconciliationService.register(teamId, List.of(objectKey));
+
+        return TaskUploadUrlResponse.builder()
+                .taskId(taskId)
+                .objectKey(objectKey)
+                .presignedUrl(s3StorageService.generatePresignedUploadUrl(objectKey))
+                .build();
+    }
+
+    // Presigned 업로드 2단계: S3 업로드 완료 후 메타데이터 커밋 (EncryptedData version 증가)
+    public void commitTaskUpload(String teamId, String userId, TaskCommitRequest req) {
+        checkUploadPermission(teamId, userId);
+
+        if (req.getObjectKey() == null
+                || !req.getObjectKey().startsWith(s3StorageService.objectKeyPrefix(teamId, req.getTaskId(), "task"))) {
+            throw new IllegalArgumentException("유효하지 않은 objectKey입니다.");
+        }
+        if (!s3StorageService.exists(req.getObjectKey())) {
+            throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다.");
         }
+
+        StoredObject stored = new StoredObject(req.getObjectKey(), null, true);
+        transactionTemplate.execute(status -> {
+            // 업로드 URL을 받은 태스크와 커밋할 태스크가 같은지 확인 (objectKey 접두사는 taskId 기준, 태스크 조회는 fileName 기준)
+            Task existingTask = taskRepository.findByTeamIdAndOriginalFileName(teamId, req.getFileName()).orElse(null);
+            boolean mismatched = existingTask != null
+                    ? !existingTask.getTaskId().equals(req.getTaskId())
+                    : taskRepository.findByTaskId(req.getTaskId()).isPresent();
+            if (mismatched) {
+                throw new IllegalArgumentException("taskId와 fileName이 일치하지 않습니다.");
+            }
+            // 같은 objectKey 재커밋 (응답 유실 후 재시도 등)은 변경 없이 성공
+            if (existingTask != null && req.getObjectKey().equals(existingTask.getEncryptedData().getObjectKey())) {
+                return null;
+            }
+
+            AppliedTask applied = applyTaskMetadata(teamId, userId, req.getFileName(), req.getFileType(),
+                    req.getTaskId(), stored, existingTask);
+            if (applied.pendingKey() != null) {
+                blobReconciliationService.resolve(List.of(applied.pendingKey()));
+            }
+            return null;
+        });
     }
 
-    // 태스크 목록 조회
-    @Transactional(readOnly = true)
-    public List<TaskResponse> getTasks(String teamId, String userId) {
-        if (!teamServiceClient.teamExists(teamId)) {
-            throw new IllegalArgumentException("저장소를 찾을 수 없습니다.");
+    private void commitTaskMetadata(String teamId, String userId, String fileName, String fileType,
+                                    String taskId, StoredObject stored) {
+        transactionTemplate.execute(status -> {
+            Task existingTask = taskRepository.findByTeamIdAndOriginalFileName(teamId, fileName).orElse(null);
+            AppliedTask applied = applyTaskMetadata(teamId, userId, fileName, fileType, taskId, stored, existingTask);
+            if (applied.pendingKey() != null) {
+                blobReconciliationService.resolve(List.of(applied.pendingKey()));
+            }
+            return null;
+        });
+    }
+
+    // 배치 업로드: 권한 확인 1회 → 기존 태스크 IN 조회 1회 → 항목별 디코딩/업로드 → 메타데이터는 하나의 트랜잭션으로 반영
+    // 항목별 검증/업로드 실패는 해당 항목만 FAILED로 보고하고 나머지는 계속 진행
+    public BatchUploadTaskResponse uploadTasks(String teamId, String userId, BatchUploadTaskRequest req) {
+        List<UploadTaskRequest> items = req.getTasks();
+        checkBatchLimits(items);
+        checkUploadPermission(teamId, userId);
+
+        BatchUploadTaskResult[] results = new BatchUploadTaskResult[items.size()];
+        Map<String, Task> existingTasks = findTasksByFileName(teamId, items);
+
+        // 1. 파일명 검증 + taskId/후보 objectKey 결정 → 후보 키 pending 일괄 등록
+        //    (동일 콘텐츠로 판명되거나 업로드에 실패해 쓰이지 않은 키는 정리 잡이 회수)
+        List<BatchItem> batch = new ArrayList<>();
+        Set<String> fileNames = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            UploadTaskRequest item = items.get(i);
+            if (item.getFileName() == null || !fileNames.add(item.getFileName())) {
+                results[i] = BatchUploadTaskResult.failed(item.getFileName(), "파일명이 없거나 요청 내에서 중복됩니다.");
+                continue;
+            }
+            Task existing = existingTasks.get(item.getFileName());
+            String taskId = existing != null ? existing.getTaskId() : UUID.randomUUID().toString();
+            batch.add(new BatchItem(i, item, taskId,
+                    s3StorageService.generateObjectKey(teamId, taskId, "task", item.getFileName())));
         }
-        if (!teamServiceClient.memberExists(teamId, userId)) {
-            throw new SecurityException("저장소 멤버가 아닙니다.");
+        blobReconciliationService.register(teamId, batch.stream().map(item -> item.objectKey).collect(Collectors.toList()));
+
+        // 2. 한 항목씩 디코딩 → 해시 → 같은 팀에 동일 콘텐츠가 있으면 PUT 생략, 없으면 비동기 업로드
+        //    동시 전송은 최대 MAX_BATCH_IN_FLIGHT건 - 전송이 끝난 항목의 바이트는 바로 해제되어 배치 전체를 힙에 올리지 않음
+        List<BatchItem> uploaded = new ArrayList<>();
+        Deque<BatchItem> inFlight = new ArrayDeque<>();
+        for (BatchItem item : batch) {
+            byte[] data;
+            try {
+                data = Base64.getDecoder().decode(item.request.getEncryptedBlob());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                results[item.index] = BatchUploadTaskResult.failed(item.request.getFileName(), "encryptedBlob이 올바른 Base64가 아닙니다.");
+                continue;
+            }
+            String contentHash = StoredBlobService.hash(data);
+            Optional<String> sharedKey = storedBlobService.findObjectKey(teamId, contentHash);
+            if (sharedKey.isPresent()) {
+                item.stored = new StoredObject(sharedKey.get(), contentHash, false);
+                uploaded.add(item);
+                continue;
+            }
+
+            if (inFlight.size() >= MAX_BATCH_IN_FLIGHT) {
+                awaitTransfer(inFlight.poll(), uploaded, results);
+            }
+            item.stored = new StoredObject(item.objectKey, contentHash, true);
+            item.transfer = s3StorageService.uploadAsync(item.objectKey, data);
+            inFlight.add(item);
+        }
+        while (!inFlight.isEmpty()) {
+            awaitTransfer(inFlight.poll(), uploaded, results);
         }
 
-        return taskRepository.findAllByTeamId(teamId).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        // 4. 메타데이터 반영 (트랜잭션 1회, 기존 태스크 IN 재조회, pending 일괄 해제)
+        if (!uploaded.isEmpty()) {
+            transactionTemplate.execute(status -> {
+                Map<String, Task> current = findTasksByFileName(teamId,
+                        uploaded.stream().map(item -> item.request).collect(Collectors.toList()));
+                List<String> pendingKeys = new ArrayList<>();
+
+                for (BatchItem item : uploaded) {
+                    UploadTaskRequest request = item.request;
+                    AppliedTask applied = applyTaskMetadata(teamId, userId, request.getFileName(),
+                            request.getFileType(), item.taskId, item.stored, current.get(request.getFileName()));
+                    if (applied.pendingKey() != null) {
+                        pendingKeys.add(applied.pendingKey());
+                    }
+                    results[item.index] = BatchUploadTaskResult.of(request.getFileName(), applied.taskId(), applied.status());
+                }
+                if (!pendingKeys.isEmpty()) {
+                    blobReconciliationService.resolve(pendingKeys);
+                }
+                return null;
+            });
+        }
+
+        return new BatchUploadTaskResponse(Arrays.asList(results));
     }
 
-    // 클라이언트 호환 업로드 (POST /api/tasks)
-    @Transactional
-    public Long uploadTaskFromClient(String repositoryId, String userId, String content) {
-        if (!teamServiceClient.teamExists(repositoryId)) {
-            throw new IllegalArgumentException("저장소를 찾을 수 없습니다.");
+    private void awaitTransfer(BatchItem item, List<BatchItem> uploaded, BatchUploadTaskResult[] results) {
+        try {
+            item.transfer.join();
+            uploaded.add(item);
+        } catch (CompletionException e) {
+            log.warn("배치 업로드 중 S3 전송 실패: {}", item.objectKey, e.getCause());
+            results[item.index] = BatchUploadTaskResult.failed(item.request.getFileName(), "파일 업로드에 실패했습니다.");
+        } finally {
+            item.transfer = null;
         }
-        teamServiceClient.getMemberRole(repositoryId, userId);
+    }
 
-        byte[] blobData = Base64.getDecoder().decode(content);
+    // 컨트롤러의 @Valid와 별개로 서비스에서도 확인 - 항목 수, Base64 기준 총 크기 (디코딩 전에 거부)
+    private void checkBatchLimits(List<UploadTaskRequest> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 태스크가 없습니다.");
+        }
+        if (items.size() > BatchUploadTaskRequest.MAX_TASKS) {
+            throw new IllegalArgumentException("한 번에 최대 " + BatchUploadTaskRequest.MAX_TASKS + "개까지 업로드할 수 있습니다.");
+        }
+        long totalBytes = items.stream()
+                .map(UploadTaskRequest::getEncryptedBlob)
+                .filter(Objects::nonNull)
+                .mapToLong(blob -> blob.length() / 4L * 3L)
+                .sum();
+        if (totalBytes > MAX_BATCH_BYTES) {
+            throw new IllegalArgumentException("배치 업로드 총 크기는 최대 " + (MAX_BATCH_BYTES >> 20) + "MB입니다.");
+        }
+    }
 
-        String taskId = UUID.randomUUID().toString();
-        String objectKey = s3StorageService.generateObjectKey(repositoryId, taskId, "task", "uploaded_task");
-        s3StorageService.upload(objectKey, blobData);
+    private Map<String, Task> findTasksByFileName(String teamId, List<UploadTaskRequest> items) {
+        List<String> fileNames = items.stream()
+                .map(UploadTaskRequest::getFileName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (fileNames.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findAllWithDataByTeamIdAndOriginalFileNameIn(teamId, fileNames).stream()
+                .collect(Collectors.toMap(Task::getOriginalFileName, Function.identity()));
+    }
 
+    // 트랜잭션 안에서 태스크 1건 반영 → 결과와 pending 해제할 objectKey 반환
+    private AppliedTask applyTaskMetadata(String teamId, String userId, String fileName, String fileType,
+                                          String taskId, StoredObject stored, Task existingTask) {
+        if (existingTask != null) {
+            EncryptedData data = existingTask.getEncryptedData();
+            if (storedBlobService.isSameContent(data.getObjectKey(), stored.contentHash())) {
+                // [Case A-0] 내용 변경 없음 -> version 유지 (엣지 노드 동기화 대상 아님)
+                return new AppliedTask(existingTask.getTaskId(), BatchUploadTaskResult.Status.UNCHANGED, null);
+            }
+
+            // [Case A] 이미 존재함 -> objectKey 교체 (Version Up), 이전 오브젝트는 참조 해제
+            String objectKey = storedBlobService.acquire(teamId, stored.contentHash(), stored.objectKey());
+            String previousObjectKey = data.getObjectKey();
+            data.updateObjectKey(objectKey, changeSequenceService.next(teamId));
+            storedBlobService.release(teamId, previousObjectKey);
+            return new AppliedTask(existingTask.getTaskId(), BatchUploadTaskResult.Status.UPDATED,
+                    pendingKeyOf(stored, objectKey));
+        }
+
+        String objectKey = storedBlobService.acquire(teamId, stored.contentHash(), stored.objectKey());
+
+        // [Case B] 없음 -> 신규 생성 (Version 1)
         Task task = Task.builder()
                 .taskId(taskId)
-                .teamId(repositoryId)
+                .teamId(teamId)
                 .uploaderId(userId)
-                .originalFileName("uploaded_task")
-                .fileType("encrypted")
+                .originalFileName(fileName)
+                .fileType(fileType)
                 .build();
 
         EncryptedData encryptedData = EncryptedData.builder()
                 .dataId(UUID.randomUUID().toString())
                 .task(task)
+                .teamId(teamId)
                 .objectKey(objectKey)
+                .changeSeq(changeSequenceService.next(teamId))
                 .build();
 
         task.setEncryptedData(encryptedData);
-        Task saved = taskRepository.save(task);
+        taskRepository.save(task);
+        return new AppliedTask(taskId, BatchUploadTaskResult.Status.CREATED, pendingKeyOf(stored, objectKey));
+    }
+
+    // 새로 올린 오브젝트가 실제로 참조될 때만 pending 해제 (중복으로 판명된 오브젝트는 정리 잡이 회수)
+    private String pendingKeyOf(StoredObject stored, String objectKey) {
+        return stored.uploaded() && stored.objectKey().equals(objectKey) ? objectKey : null;
+    }
+
+    private record AppliedTask(String taskId, BatchUploadTaskResult.Status status, String pendingKey) {
+    }
+
+    // 배치 업로드 항목별 진행 상태
+    private static final class BatchItem {
+        private final int index;
+        private final UploadTaskRequest request;
+        private final String taskId;
+        private final String objectKey;
+        private StoredObject stored;
+        private CompletableFuture<String> transfer;
+
+        private BatchItem(int index, UploadTaskRequest request, String taskId, String objectKey) {
+            this.index = index;
+            this.request = request;
+            this.taskId = taskId;
+            this.objectKey = objectKey;
+        }
+    }
+
+    // 태스크 목록 조회 - keyset 페이지네이션 (uploadedAt, id 최신순)
+    // OFFSET 없이 커서 위치부터 인덱스를 읽으므로 팀의 태스크 수와 무관하게 페이지당 비용이 일정
+    public TaskPageResponse getTasks(String teamId, String userId, String cursor, int size,
+                                     String fileType, String uploaderId) {
+        checkMemberAccess(teamId, userId);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        TaskCursor after = TaskCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<Task> tasks = taskRepository.findPageByTeamId(teamId, fileType, uploaderId,
+                after != null ? after.uploadedAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<Task> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.getUploadedAt(), last.getId()).encode();
+        }
+
+        return new TaskPageResponse(
+                page.stream().map(TaskResponse::from).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    // 페이지네이션 이전 응답 형태(전체 목록 배열) 호환용 - 정렬/필터는 페이지 조회와 동일
+    public List<TaskResponse> getAllTasks(String teamId, String userId, String fileType, String uploaderId) {
+        checkMemberAccess(teamId, userId);
+
+        return taskRepository.findPageByTeamId(teamId, fileType, uploaderId, null, null, Pageable.unpaged())
+                .stream()
+                .map(TaskResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    // 불투명 커서: "{uploadedAt}|{id}"를 URL-safe Base64로 인코딩
+    private record TaskCursor(LocalDateTime uploadedAt, Long id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((uploadedAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static TaskCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return new TaskCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 cursor입니다.");
+            }
+        }
+    }
+
+    // 클라이언트 호환 업로드 (POST /api/tasks)
+    public Long uploadTaskFromClient(String repositoryId, String userId, String content) {
+        checkClientUploadPermission(repositoryId, userId);
+
+        byte[] blobData = Base64.getDecoder().decode(content);
+
+        return saveClientTask(repositoryId, userId,
+                objectKey -> storeBytes(repositoryId, objectKey, blobData));
+    }
+
+    // 클라이언트 호환 스트리밍 업로드 (POST /api/tasks, application/octet-stream)
+    public Long uploadTaskStreamFromClient(String repositoryId, String userId,
+                                           InputStream content, long contentLength) {
+        checkClientUploadPermission(repositoryId, userId);
 
-        return saved.getId();
+        return saveClientTask(repositoryId, userId,
+                objectKey -> storeStream(repositoryId, objectKey, content, contentLength));
+    }
+
+    private void checkClientUploadPermission(String repositoryId, String userId) {
+        checkMemberAccess(repositoryId, userId);
+    }
+
+    // 팀 존재 + 사람(User) 멤버 확인 - Team 접근 판정 API 한 번으로
+    private TeamAccessResponse checkMemberAccess(String teamId, String userId) {
+        TeamAccessResponse access = teamServiceClient.checkAccess(teamId, userId);
+        if (!access.isTeamExists()) {
+            throw new IllegalArgumentException("저장소를 찾을 수 없습니다.");
+        }
+        if (!TeamAccessResponse.USER.equals(access.getPrincipalType())) {
+            throw new SecurityException("저장소 멤버가 아닙니다.");
+        }
+        return access;
+    }
+
+    private Long saveClientTask(String repositoryId, String userId, Function<String, StoredObject> blobWriter) {
+        String taskId = UUID.randomUUID().toString();
+        StoredObject stored = blobWriter.apply(
+                s3StorageService.generateObjectKey(repositoryId, taskId, "task", "uploaded_task"));
+
+        return transactionTemplate.execute(status -> {
+            String objectKey = storedBlobService.acquire(repositoryId, stored.contentHash(), stored.objectKey());
+
+            Task task = Task.builder()
+                    .taskId(taskId)
+                    .teamId(repositoryId)
+                    .uploaderId(userId)
+                    .originalFileName("uploaded_task")
+                    .fileType("encrypted")
+                    .build();
+
+            EncryptedData encryptedData = EncryptedData.builder()
+                    .dataId(UUID.randomUUID().toString())
+                    .task(task)
+                    .teamId(repositoryId)
+                    .objectKey(objectKey)
+                    .changeSeq(changeSequenceService.next(repositoryId))
+                    .build();
+
+            task.setEncryptedData(encryptedData);
+            Task saved = taskRepository.save(task);
+            String pendingKey = pendingKeyOf(stored, objectKey);
+            if (pendingKey != null) {
+                blobReconciliationService.resolve(List.of(pendingKey));
+            }
+
+            return saved.getId();
+        });
     }
 
     // 데이터 다운로드 - presigned URL 반환 (엣지/클라이언트가 S3에서 직접 다운로드)
@@ -158,55 +550,62 @@ public class TaskService {
 
     // 태스크 접근 권한 체크 (User 또는 EdgeNode) - 기존 로직 유지
     private void checkTaskPermission(Task task, String requesterId) {
-        boolean hasPermission = false;
+        checkTeamReadPermission(task.getTeamId(), requesterId);
+    }
 
-        // 1. 사람(User)인지 확인
-        try {
-            if (authServiceClient.userExists(requesterId)) {
-                hasPermission = teamServiceClient.memberExists(task.getTeamId(), requesterId);
-            }
-        } catch (Exception e) {
-            // User 조회 실패 시 무시
+    // 팀 데이터 읽기 권한 체크: 팀 멤버(User) 또는 팀에 등록된 로봇(EdgeNode)
+    // 주체 유형과 멤버십을 Team 접근 판정 API 한 번으로 확인 (캐시, Auth/Team 순차 조회 없음)
+    // 로봇 토큰: claim의 teamId가 다르면 원격 조회 없이 거부, 같아도 현재 등록 여부를 확인
+    // → 로봇 해제/팀 이동이 토큰 만료가 아니라 캐시 TTL 안에 반영
+    public void checkTeamReadPermission(String teamId, String requesterId) {
+        Optional<JwtPrincipal> edgeNode = JwtPrincipal.current()
+                .filter(principal -> principal.isEdgeNode() && requesterId.equals(principal.userId()));
+        if (edgeNode.isPresent() && !teamId.equals(edgeNode.get().teamId())) {
+            throw new SecurityException("접근 권한이 없습니다 (멤버 아님).");
         }
 
-        // 2. 로봇(EdgeNode)인지 확인
-        if (!hasPermission) {
-            try {
-                String edgeNodeTeamId = teamServiceClient.getEdgeNodeTeamId(requesterId);
-                hasPermission = edgeNodeTeamId.equals(task.getTeamId());
-            } catch (Exception e) {
-                // EdgeNode 조회 실패 시 무시
-            }
+        TeamAccessResponse access = teamServiceClient.checkAccess(teamId, requesterId);
+        if (access.getPrincipalType() == null) {
+            throw new SecurityException("접근 권한이 없습니다 (멤버 아님).");
         }
-
-        if (!hasPermission) {
+        if (edgeNode.isPresent() && !TeamAccessResponse.EDGE_NODE.equals(access.getPrincipalType())) {
             throw new SecurityException("접근 권한이 없습니다 (멤버 아님).");
         }
     }
 
-    // 태스크 삭제
-    @Transactional
+    // 태스크 삭제 - 메타데이터만 짧은 트랜잭션으로 정리하고 즉시 반환
+    // 참조가 사라진 S3 오브젝트는 삭제 큐(pending_blobs)에 들어가 BlobGarbageCollector가 일괄 삭제
     public void deleteTask(String taskId, String userId) {
         Task task = taskRepository.findByTaskId(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("태스크를 찾을 수 없습니다."));
 
         boolean isUploader = task.getUploaderId().equals(userId);
-        MemberRoleResponse memberRole = teamServiceClient.getMemberRole(task.getTeamId(), userId);
-        boolean isAdmin = "ADMIN".equals(memberRole.getRole());
+        boolean isAdmin = "ADMIN".equals(checkMemberAccess(task.getTeamId(), userId).getRole());
 
         if (!isUploader && !isAdmin) {
             throw new SecurityException("삭제 권한이 없습니다.");
         }
 
-        // S3 오브젝트 삭제
-        if (task.getEncryptedData() != null && task.getEncryptedData().getObjectKey() != null) {
-            s3StorageService.delete(task.getEncryptedData().getObjectKey());
-        }
+        transactionTemplate.execute(status -> {
+            Task current = taskRepository.findByTaskId(taskId)
+                    .orElseThrow(() -> new IllegalArgumentException("태스크를 찾을 수 없습니다."));
+
+            // 참조 해제 - 다른 태스크/데모와 공유 중이 아니면 삭제 큐에 등록
+            if (current.getEncryptedData() != null) {
+                storedBlobService.release(current.getTeamId(), current.getEncryptedData().getObjectKey());
+            }
 
-        // 연관된 데모 논리적 삭제 (VectorDemo의 S3 오브젝트는 데모 자체와 함께 관리)
-        List<VectorDemo> demos = vectorDemoRepository.findByTaskId(taskId);
-        demos.forEach(VectorDemo::markAsDeleted);
+            // 연관된 데모 논리적 삭제 - tombstone은 동기화용으로 남기고 S3 오브젝트는 참조 해제
+            List<VectorDemo> demos = vectorDemoRepository.findByTaskId(taskId);
+            for (VectorDemo demo : demos) {
+                if (!demo.isDeleted()) {
+                    storedBlobService.release(current.getTeamId(), demo.getObjectKey());
+                    demo.markAsDeleted(changeSequenceService.next(current.getTeamId()));
+                }
+            }
 
-        taskRepository.delete(task);
+            taskRepository.delete(current);
+            return null;
+        });
     }
 }
@@ -0,0 +1,8 @@
+package horizon.SeRVe.core.service;
+
+/**
+ * 팀의 태스크/데모 변경 이벤트 (변경 시퀀스 발급 시 발행, 커밋 후 구독자에게 전달).
+ * seq는 해당 변경에 기록된 팀 변경 시퀀스로, 클라이언트는 이 값을 다음 동기화의 lastSeq와 비교합니다.
+ */
+public record TeamChangedEvent(String teamId, long seq) {
+}
@@ -0,0 +1,41 @@
+package horizon.SeRVe.core.storage;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 바이너리 오브젝트 저장소 SPI.
+ *
+ * 서비스 계층은 S3StorageService를 통해 이 인터페이스만 사용하므로,
+ * 실제 S3(S3BlobStore)와 로컬 파일시스템(LocalBlobStore)을 storage.backend 설정으로 바꿔 끼울 수 있습니다.
+ * AWS 없이 개발/CI/벤치마크를 돌리거나 S3가 없는 온프레미스 환경에서 Core를 운영할 때 로컬 구현을 사용합니다.
+ */
+public interface BlobStore {
+
+    void put(String objectKey, byte[] data);
+
+    // contentLength < 0 이면 길이를 모르는 스트림
+    void put(String objectKey, InputStream data, long contentLength);
+
+    byte[] get(String objectKey);
+
+    boolean exists(String objectKey);
+
+    void delete(String objectKey);
+
+    // 일괄 삭제 → 삭제에 실패한 키 반환 (존재하지 않는 키는 성공으로 취급)
+    List<String> deleteAll(List<String> objectKeys);
+
+    CompletableFuture<Void> putAsync(String objectKey, byte[] data);
+
+    CompletableFuture<byte[]> getAsync(String objectKey);
+
+    CompletableFuture<Void> deleteAsync(String objectKey);
+
+    // 클라이언트가 저장소에서 직접 다운로드/업로드할 서명된 URL
+    PresignedUrl presignGet(String objectKey, Duration ttl);
+
+    PresignedUrl presignPut(String objectKey, Duration ttl);
+}
@@ -0,0 +1,244 @@
+package horizon.SeRVe.core.storage;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 로컬 파일시스템 기반 BlobStore (개발/CI/벤치마크, S3가 없는 온프레미스용).
+ *
+ * 오브젝트는 {root}/{objectKey}에 저장됩니다. 쓰기는 {root}/.tmp의 임시 파일에 FileChannel로 기록한 뒤
+ * 원자적 rename으로 게시하므로 읽는 쪽은 완성된 파일만 봅니다.
+ * presigned URL은 HMAC-SHA256으로 서명된 Core의 로컬 다운로드/업로드 엔드포인트(/api/storage/objects)를 가리키며,
+ * 다운로드는 FileChannel.transferTo로 응답 채널에 직접 전송합니다.
+ */
+public class LocalBlobStore implements BlobStore {
+
+    public static final String OBJECT_PATH = "/api/storage/objects";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int COPY_BUFFER_SIZE = 128 * 1024;
+
+    private final Path root;
+    private final Path tempDir;
+    private final String publicBaseUrl;
+    private final SecretKeySpec signingKey;
+    private final Executor executor;
+
+    public LocalBlobStore(Path root, String publicBaseUrl, byte[] signingSecret, Executor executor) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDir = this.root.resolve(".tmp");
+        this.publicBaseUrl = publicBaseUrl.endsWith("/")
+                ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+        this.signingKey = new SecretKeySpec(signingSecret, HMAC_ALGORITHM);
+        this.executor = executor;
+        try {
+            Files.createDirectories(tempDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void put(String objectKey, byte[] data) {
+        Path target = resolve(objectKey);
+        Path temp = tempFile();
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        }
+        publish(temp, target);
+    }
+
+    // 스트림을 고정 크기 청크로 임시 파일에 기록 (본문 전체를 메모리에 올리지 않음)
+    @Override
+    public void put(String objectKey, InputStream data, long contentLength) {
+        Path target = resolve(objectKey);
+        Path temp = tempFile();
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ReadableByteChannel in = Channels.newChannel(data);
+            long written = 0;
+            long transferred;
+            while ((transferred = out.transferFrom(in, written, COPY_BUFFER_SIZE)) > 0) {
+                written += transferred;
+            }
+            if (contentLength >= 0 && written != contentLength) {
+                throw new IOException("업로드 크기가 일치하지 않습니다: expected=" + contentLength + ", actual=" + written);
+            }
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        }
+        publish(temp, target);
+    }
+
+    @Override
+    public byte[] get(String objectKey) {
+        try {
+            return Files.readAllBytes(resolve(objectKey));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean exists(String objectKey) {
+        return Files.isRegularFile(resolve(objectKey));
+    }
+
+    @Override
+    public void delete(String objectKey) {
+        try {
+            Files.deleteIfExists(resolve(objectKey));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> objectKeys) {
+        List<String> failed = new ArrayList<>();
+        for (String objectKey : objectKeys) {
+            try {
+                Files.deleteIfExists(resolve(objectKey));
+            } catch (IOException | RuntimeException e) {
+                failed.add(objectKey);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String objectKey, byte[] data) {
+        return CompletableFuture.runAsync(() -> put(objectKey, data), executor);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getAsync(String objectKey) {
+        return CompletableFuture.supplyAsync(() -> get(objectKey), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String objectKey) {
+        return CompletableFuture.runAsync(() -> delete(objectKey), executor);
+    }
+
+    @Override
+    public PresignedUrl presignGet(String objectKey, Duration ttl) {
+        return presign("GET", objectKey, ttl);
+    }
+
+    @Override
+    public PresignedUrl presignPut(String objectKey, Duration ttl) {
+        return presign("PUT", objectKey, ttl);
+    }
+
+    // 오브젝트 크기 (없으면 NoSuchFileException)
+    public long size(String objectKey) throws IOException {
+        return Files.size(resolve(objectKey));
+    }
+
+    // 파일 내용을 채널로 전송 (FileChannel.transferTo - 대상이 소켓/파일 채널이면 커널 내 zero-copy)
+    public long transferTo(String objectKey, WritableByteChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(objectKey), StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, target);
+            }
+            return size;
+        }
+    }
+
+    // presigned URL 검증: 같은 메서드/키/만료 시각으로 계산한 서명과 일치하고 아직 만료되지 않았는지
+    public boolean verify(String method, String objectKey, long expiresEpochSecond, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expiresEpochSecond) {
+            return false;
+        }
+        byte[] expected = sign(method, objectKey, expiresEpochSecond).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private PresignedUrl presign(String method, String objectKey, Duration ttl) {
+        resolve(objectKey);
+        Instant expiration = Instant.now().plus(ttl);
+        long expires = expiration.getEpochSecond();
+        String url = publicBaseUrl + OBJECT_PATH
+                + "?key=" + URLEncoder.encode(objectKey, StandardCharsets.UTF_8)
+                + "&expires=" + expires
+                + "&signature=" + sign(method, objectKey, expires);
+        return new PresignedUrl(url, Instant.ofEpochSecond(expires));
+    }
+
+    private String sign(String method, String objectKey, long expiresEpochSecond) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((method + "\n" + objectKey + "\n" + expiresEpochSecond)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("presigned URL 서명에 실패했습니다.", e);
+        }
+    }
+
+    // objectKey → 파일 경로 ({root} 밖을 가리키는 키는 거부)
+    private Path resolve(String objectKey) {
+        Path path = root.resolve(objectKey).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(tempDir)) {
+            throw new IllegalArgumentException("유효하지 않은 objectKey입니다.");
+        }
+        return path;
+    }
+
+    private Path tempFile() {
+        return tempDir.resolve(UUID.randomUUID().toString());
+    }
+
+    // 완성된 임시 파일을 원자적 rename으로 게시 (같은 키 덮어쓰기도 원자적)
+    private void publish(Path temp, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package horizon.SeRVe.core.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 기반 멀티파트 대체 구현 (개발/벤치마크용).
+ *
+ * 파트는 {root}/.uploads/{uploadId}/part-{n} 에 기록되고, complete 시 순서대로 이어 붙인 뒤
+ * 원자적 rename으로 {root}/{objectKey}에 게시됩니다.
+ * partLatency / bytesPerSecond로 네트워크 왕복 지연과 대역폭을 흉내낼 수 있어
+ * 파트 크기와 동시성 설정을 AWS 없이 비교할 수 있습니다.
+ */
+public class LocalMultipartUploadBackend implements MultipartUploadBackend {
+
+    private final Path root;
+    private final Duration partLatency;
+    private final long bytesPerSecond;
+
+    public LocalMultipartUploadBackend(Path root) {
+        this(root, Duration.ZERO, 0);
+    }
+
+    // bytesPerSecond <= 0 이면 대역폭 제한 없음
+    public LocalMultipartUploadBackend(Path root, Duration partLatency, long bytesPerSecond) {
+        this.root = root;
+        this.partLatency = partLatency;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    @Override
+    public String createUpload(String objectKey) {
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(uploadDir(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String objectKey, String uploadId, int partNumber, byte[] data) {
+        simulateTransfer(data.length);
+        try {
+            Files.write(uploadDir(uploadId).resolve("part-" + partNumber), data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return uploadId + "-" + partNumber;
+    }
+
+    @Override
+    public void completeUpload(String objectKey, String uploadId, List<UploadedPart> parts) {
+        Path target = root.resolve(objectKey);
+        Path dir = uploadDir(uploadId);
+        try {
+            Files.createDirectories(target.getParent());
+            Path assembled = dir.resolve("assembled");
+            try (FileChannel out = FileChannel.open(assembled,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (UploadedPart part : parts.stream()
+                        .sorted(Comparator.comparingInt(UploadedPart::getPartNumber)).toList()) {
+                    try (FileChannel in = FileChannel.open(dir.resolve("part-" + part.getPartNumber()))) {
+                        long position = 0;
+                        long size = in.size();
+                        while (position < size) {
+                            position += in.transferTo(position, size - position, out);
+                        }
+                    }
+                }
+            }
+            Files.move(assembled, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        deleteDirectory(dir);
+    }
+
+    @Override
+    public void abortUpload(String objectKey, String uploadId) {
+        deleteDirectory(uploadDir(uploadId));
+    }
+
+    private Path uploadDir(String uploadId) {
+        return root.resolve(".uploads").resolve(uploadId);
+    }
+
+    private void simulateTransfer(long length) {
+        long millis = partLatency.toMillis();
+        if (bytesPerSecond > 0) {
+            millis += length * 1000 / bytesPerSecond;
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파트 전송이 중단되었습니다.", e);
+        }
+    }
+
+    private void deleteDirectory(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ignored) {
+                    // 정리 실패는 무시 (다음 업로드에 영향 없음)
+                }
+            });
+        } catch (IOException ignored) {
+            // 정리 실패는 무시
+        }
+    }
+}
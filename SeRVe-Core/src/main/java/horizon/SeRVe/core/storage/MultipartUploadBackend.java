@@ -0,0 +1,25 @@
+package horizon.SeRVe.core.storage;
+
+import java.util.List;
+
+/**
+ * 멀티파트 업로드 대상 저장소.
+ *
+ * MultipartUploader는 이 인터페이스만 사용하므로,
+ * 실제 S3(S3MultipartUploadBackend)와 로컬 대체 구현(LocalMultipartUploadBackend)을
+ * 바꿔 끼워 파트 크기/동시성을 AWS 없이 측정할 수 있습니다.
+ */
+public interface MultipartUploadBackend {
+
+    // 업로드 시작 → uploadId 반환
+    String createUpload(String objectKey);
+
+    // 파트 업로드 (partNumber는 1부터 시작) → ETag 반환
+    String uploadPart(String objectKey, String uploadId, int partNumber, byte[] data);
+
+    // 모든 파트 업로드 후 하나의 오브젝트로 합치기
+    void completeUpload(String objectKey, String uploadId, List<UploadedPart> parts);
+
+    // 실패 시 업로드된 파트 정리
+    void abortUpload(String objectKey, String uploadId);
+}
@@ -0,0 +1,141 @@
+package horizon.SeRVe.core.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 스트림을 partSize 단위로 잘라 병렬 업로드하는 멀티파트 업로더.
+ *
+ * - 업로드 하나당 동시에 메모리에 올라가는 파트는 최대 concurrency개 (메모리 = partSize × concurrency)
+ * - 파트별로 maxPartRetries회까지 지수 백오프 재시도 → 실패 시 해당 파트만 다시 전송
+ * - 어떤 파트든 최종 실패하면 업로드 전체를 abort
+ */
+@Slf4j
+public class MultipartUploader {
+
+    // S3 규격: 마지막 파트를 제외한 모든 파트는 최소 5MiB
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final MultipartUploadBackend backend;
+    private final Executor executor;
+    private final int partSize;
+    private final int concurrency;
+    private final int maxPartRetries;
+    private final long retryBackoffMillis;
+
+    public MultipartUploader(MultipartUploadBackend backend, Executor executor,
+                             int partSize, int concurrency, int maxPartRetries, long retryBackoffMillis) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency는 1 이상이어야 합니다.");
+        }
+        this.backend = backend;
+        this.executor = executor;
+        this.partSize = partSize;
+        this.concurrency = concurrency;
+        this.maxPartRetries = maxPartRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    public String upload(String objectKey, InputStream data) {
+        String uploadId = backend.createUpload(objectKey);
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<CompletableFuture<UploadedPart>> futures = new ArrayList<>();
+
+        try {
+            int partNumber = 1;
+            while (true) {
+                // 버퍼를 읽기 전에 슬롯을 확보해야 메모리 사용량이 concurrency개 파트로 제한됨
+                inFlight.acquire();
+                byte[] buffer = data.readNBytes(partSize);
+                if (buffer.length == 0 && partNumber > 1) {
+                    inFlight.release();
+                    break;
+                }
+
+                int currentPart = partNumber++;
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> uploadPartWithRetry(objectKey, uploadId, currentPart, buffer), executor)
+                        .whenComplete((part, error) -> inFlight.release()));
+
+                failFast(futures);
+                if (buffer.length < partSize) {
+                    break;
+                }
+            }
+
+            List<UploadedPart> parts = futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+            backend.completeUpload(objectKey, uploadId, parts);
+            return objectKey;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(objectKey, uploadId, futures);
+            throw new IllegalStateException("멀티파트 업로드가 중단되었습니다: " + objectKey, e);
+        } catch (IOException | RuntimeException e) {
+            abort(objectKey, uploadId, futures);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("멀티파트 업로드 실패: " + objectKey, cause);
+        }
+    }
+
+    private UploadedPart uploadPartWithRetry(String objectKey, String uploadId, int partNumber, byte[] buffer) {
+        int attempt = 0;
+        while (true) {
+            try {
+                String eTag = backend.uploadPart(objectKey, uploadId, partNumber, buffer);
+                return new UploadedPart(partNumber, eTag);
+            } catch (RuntimeException e) {
+                if (attempt >= maxPartRetries) {
+                    throw e;
+                }
+                attempt++;
+                log.warn("파트 업로드 재시도 {}/{} (key={}, part={}): {}",
+                        attempt, maxPartRetries, objectKey, partNumber, e.getMessage());
+                sleep(retryBackoffMillis << (attempt - 1));
+            }
+        }
+    }
+
+    // 이미 실패한 파트가 있으면 나머지 스트림을 읽지 않고 즉시 중단
+    private void failFast(List<CompletableFuture<UploadedPart>> futures) {
+        for (CompletableFuture<UploadedPart> future : futures) {
+            if (future.isCompletedExceptionally()) {
+                future.join();
+            }
+        }
+    }
+
+    private void abort(String objectKey, String uploadId, List<CompletableFuture<UploadedPart>> futures) {
+        // 진행 중인 파트가 끝난 뒤 abort해야 abort 이후 파트가 남지 않음
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (RuntimeException ignored) {
+            // 실패한 파트는 abort로 함께 정리됨
+        }
+        try {
+            backend.abortUpload(objectKey, uploadId);
+        } catch (RuntimeException e) {
+            log.warn("멀티파트 업로드 abort 실패 (key={}, uploadId={})", objectKey, uploadId, e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파트 업로드 재시도가 중단되었습니다.", e);
+        }
+    }
+}
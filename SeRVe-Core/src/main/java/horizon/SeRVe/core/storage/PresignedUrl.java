@@ -0,0 +1,7 @@
+package horizon.SeRVe.core.storage;
+
+import java.time.Instant;
+
+// 발급된 presigned URL과 실제 만료 시각 (재사용 여부 판단용)
+public record PresignedUrl(String url, Instant expiration) {
+}
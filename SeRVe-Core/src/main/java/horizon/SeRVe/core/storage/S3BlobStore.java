@@ -0,0 +1,194 @@
+package horizon.SeRVe.core.storage;
+
+import software.amazon.awssdk.awscore.presigner.PresignedRequest;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * S3 기반 BlobStore.
+ *
+ * 임계값 이상(또는 길이를 모르는 스트림)은 MultipartUploader로 파트 병렬 업로드하고,
+ * 비동기 API는 S3AsyncClient(CRT 사용 시 자동 파트 병렬 전송)로 요청 스레드를 점유하지 않고 전송합니다.
+ */
+public class S3BlobStore implements BlobStore {
+
+    // DeleteObjects 요청당 최대 키 수 (S3 제한)
+    public static final int MAX_DELETE_BATCH = 1000;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final MultipartUploader multipartUploader;
+    private final String bucketName;
+    private final long multipartThreshold;
+
+    public S3BlobStore(S3Client s3Client, S3AsyncClient s3AsyncClient, S3Presigner s3Presigner,
+                       MultipartUploader multipartUploader, String bucketName, long multipartThreshold) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.multipartUploader = multipartUploader;
+        this.bucketName = bucketName;
+        this.multipartThreshold = multipartThreshold;
+    }
+
+    // 임계값 이상이면 멀티파트 병렬 업로드
+    @Override
+    public void put(String objectKey, byte[] data) {
+        if (data.length >= multipartThreshold) {
+            multipartUploader.upload(objectKey, new ByteArrayInputStream(data));
+            return;
+        }
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
+        s3Client.putObject(request, RequestBody.fromBytes(data));
+    }
+
+    // 본문 전체를 메모리에 올리지 않고 SDK가 고정 크기 버퍼(재시도용 mark 128KiB)로 읽어 전송
+    // 길이를 모르거나(contentLength < 0) 임계값 이상이면 멀티파트로 파트 단위 병렬 업로드
+    @Override
+    public void put(String objectKey, InputStream data, long contentLength) {
+        if (contentLength < 0 || contentLength >= multipartThreshold) {
+            multipartUploader.upload(objectKey, data);
+            return;
+        }
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentLength(contentLength)
+                .build();
+        s3Client.putObject(request, RequestBody.fromInputStream(data, contentLength));
+    }
+
+    @Override
+    public byte[] get(String objectKey) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
+        return s3Client.getObjectAsBytes(request).asByteArray();
+    }
+
+    @Override
+    public boolean exists(String objectKey) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void delete(String objectKey) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
+        s3Client.deleteObject(request);
+    }
+
+    // DeleteObjects로 최대 1000개씩 삭제 - 존재하지 않는 키는 S3가 성공으로 처리하므로 재시도해도 안전
+    @Override
+    public List<String> deleteAll(List<String> objectKeys) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < objectKeys.size(); from += MAX_DELETE_BATCH) {
+            List<ObjectIdentifier> chunk = objectKeys.subList(from, Math.min(from + MAX_DELETE_BATCH, objectKeys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .collect(Collectors.toList());
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(chunk).quiet(true).build())
+                    .build());
+            response.errors().forEach(error -> failed.add(error.key()));
+        }
+        return failed;
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String objectKey, byte[] data) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentLength((long) data.length)
+                .build();
+        return s3AsyncClient.putObject(request, AsyncRequestBody.fromBytes(data))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getAsync(String objectKey) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
+        return s3AsyncClient.getObject(request, AsyncResponseTransformer.toBytes())
+                .thenApply(ResponseBytes::asByteArray);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String objectKey) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
+        return s3AsyncClient.deleteObject(request).thenApply(response -> null);
+    }
+
+    @Override
+    public PresignedUrl presignGet(String objectKey, Duration ttl) {
+        return toPresignedUrl(s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .build())
+                .build()));
+    }
+
+    @Override
+    public PresignedUrl presignPut(String objectKey, Duration ttl) {
+        return toPresignedUrl(s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .build())
+                .build()));
+    }
+
+    private static PresignedUrl toPresignedUrl(PresignedRequest presigned) {
+        return new PresignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+}
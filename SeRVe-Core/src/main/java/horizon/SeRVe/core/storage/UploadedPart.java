@@ -0,0 +1,11 @@
+package horizon.SeRVe.core.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UploadedPart {
+    private final int partNumber;
+    private final String eTag;
+}
@@ -1,13 +1,12 @@
 package horizon.SeRVe.core;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
 import horizon.SeRVe.core.dto.task.ClientUploadRequest;
 import horizon.SeRVe.core.dto.task.TaskResponse;
 import horizon.SeRVe.core.dto.task.EncryptedDataResponse;
 import horizon.SeRVe.core.entity.Task;
 import horizon.SeRVe.core.entity.EncryptedData;
-import horizon.SeRVe.core.feign.AuthServiceClient;
 import horizon.SeRVe.core.feign.TeamServiceClient;
 import horizon.SeRVe.core.repository.TaskRepository;
 import horizon.SeRVe.core.repository.EncryptedDataRepository;
@@ -47,7 +46,6 @@ class ClientCompatibilityTest {
     @Mock private EncryptedDataRepository encryptedDataRepository;
     @Mock private VectorDemoRepository vectorDemoRepository;
     @Mock private TeamServiceClient teamServiceClient;
-    @Mock private AuthServiceClient authServiceClient;
     @Mock private S3StorageService s3StorageService;
 
     // ==================== DTO 직렬화/역직렬화 테스트 ====================
@@ -115,11 +113,10 @@ class ClientCompatibilityTest {
         String userId = "user-1";
         String content = Base64.getEncoder().encodeToString("encrypted-data".getBytes());
 
-        MemberRoleResponse memberRole = MemberRoleResponse.builder()
-                .userId(userId).teamId(teamId).role("MEMBER").build();
+        TeamAccessResponse access = TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("MEMBER").build();
 
-        given(teamServiceClient.teamExists(teamId)).willReturn(true);
-        given(teamServiceClient.getMemberRole(teamId, userId)).willReturn(memberRole);
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(access);
         given(s3StorageService.generateObjectKey(anyString(), anyString(), anyString(), anyString()))
                 .willReturn("team-1/task-uuid/task/uploaded_task");
         given(s3StorageService.upload(anyString(), any(byte[].class)))
@@ -160,8 +157,8 @@ class ClientCompatibilityTest {
                 .build();
 
         given(taskRepository.findById(id)).willReturn(Optional.of(mockTask));
-        given(authServiceClient.userExists(userId)).willReturn(true);
-        given(teamServiceClient.memberExists("team-1", userId)).willReturn(true);
+        given(teamServiceClient.checkAccess("team-1", userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("MEMBER").build());
         given(encryptedDataRepository.findByTask(mockTask)).willReturn(Optional.of(mockData));
 
         // when
@@ -0,0 +1,114 @@
+package horizon.SeRVe.core.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import horizon.SeRVe.core.dto.sync.ChangedTaskResponse;
+import horizon.SeRVe.core.feign.TeamServiceClient;
+import horizon.SeRVe.core.repository.EncryptedDataRepository;
+import horizon.SeRVe.core.repository.VectorDemoRepository;
+import horizon.SeRVe.core.service.ChangeSequenceService;
+import horizon.SeRVe.core.service.ChangeSequenceService.SyncCursor;
+import horizon.SeRVe.core.service.PresignedUrlService;
+import horizon.SeRVe.core.service.SyncNotificationService;
+import horizon.SeRVe.core.service.SyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class SyncControllerTest {
+
+    private final ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+
+    @Mock private EncryptedDataRepository encryptedDataRepository;
+    @Mock private VectorDemoRepository vectorDemoRepository;
+    @Mock private TeamServiceClient teamServiceClient;
+    @Mock private ChangeSequenceService changeSequenceService;
+    @Mock private SyncNotificationService syncNotificationService;
+    @Mock private PresignedUrlService presignedUrlService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SyncService syncService = new SyncService(encryptedDataRepository, vectorDemoRepository,
+                changeSequenceService, teamServiceClient, objectMapper, new Jackson2ObjectMapperBuilder());
+        mockMvc = MockMvcBuilders.standaloneSetup(new SyncController(
+                syncService, syncNotificationService, presignedUrlService, changeSequenceService)).build();
+
+        given(teamServiceClient.teamExists("team-1")).willReturn(true);
+        given(changeSequenceService.syncCursor("team-1", 0L, "lastSyncVersion", null))
+                .willReturn(new SyncCursor(0L, null));
+        given(encryptedDataRepository.findChangedTasks(eq("team-1"), eq(0L), isNull(), any()))
+                .willReturn(List.of(ChangedTaskResponse.builder()
+                        .taskId("task-1").fileName("a.bin").fileType("bin").version(1).seq(3L).uploaderId("user-1")
+                        .build()));
+    }
+
+    @Test
+    @DisplayName("동기화 델타 - Accept 헤더가 없으면 기존과 같은 JSON 배열")
+    void getChangedTasks_DefaultsToJson() throws Exception {
+        // when
+        MvcResult started = mockMvc.perform(get("/api/sync/tasks").param("teamId", "team-1").param("lastSeq", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        // then
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertTask(body);
+    }
+
+    @Test
+    @DisplayName("동기화 델타 - Accept: application/cbor면 같은 구조를 CBOR로 응답")
+    void getChangedTasks_CborWhenAccepted() throws Exception {
+        // when
+        MvcResult started = mockMvc.perform(get("/api/sync/tasks").param("teamId", "team-1").param("lastSeq", "0")
+                        .accept(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then
+        byte[] bytes = result.getResponse().getContentAsByteArray();
+        assertThrows(Exception.class, () -> objectMapper.readTree(bytes));
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(bytes);
+        assertTask(body);
+    }
+
+    private void assertTask(JsonNode body) {
+        assertTrue(body.isArray());
+        assertEquals(1, body.size());
+        assertEquals("task-1", body.get(0).get("taskId").asText());
+        assertEquals("a.bin", body.get(0).get("fileName").asText());
+        assertEquals(3L, body.get(0).get("seq").asLong());
+    }
+}
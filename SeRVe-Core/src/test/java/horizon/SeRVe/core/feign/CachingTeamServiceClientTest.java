@@ -0,0 +1,80 @@
+package horizon.SeRVe.core.feign;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Util;
+import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTeamServiceClientTest {
+
+    @Mock private TeamServiceClient delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingTeamServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        client = new CachingTeamServiceClient(delegate, meterRegistry,
+                Duration.ofSeconds(30), Duration.ofSeconds(5), 100);
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://team/internal", Map.of(), null, Util.UTF_8, null);
+    }
+
+    @Test
+    @DisplayName("같은 (팀, 사용자) 권한 조회는 Team을 한 번만 호출")
+    void getMemberRole_CachesPositiveResult() {
+        // given
+        MemberRoleResponse role = MemberRoleResponse.builder().teamId("team-1").userId("user-1").role("ADMIN").build();
+        given(delegate.teamExists("team-1")).willReturn(true);
+        given(delegate.getMemberRole("team-1", "user-1")).willReturn(role);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertTrue(client.teamExists("team-1"));
+            assertEquals("ADMIN", client.getMemberRole("team-1", "user-1").getRole());
+        }
+
+        // then
+        verify(delegate, times(1)).teamExists("team-1");
+        verify(delegate, times(1)).getMemberRole("team-1", "user-1");
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "team.member-role").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Team의 4xx(멤버 아님)는 캐싱해 같은 예외를 다시 던지고, 5xx는 캐싱하지 않음")
+    void getMemberRole_CachesClientErrorOnly() {
+        // given
+        FeignException notMember = new FeignException.Conflict("멤버를 찾을 수 없습니다.", request(), null, Map.of());
+        FeignException unavailable = new FeignException.ServiceUnavailable("down", request(), null, Map.of());
+        given(delegate.getMemberRole("team-1", "outsider")).willThrow(notMember);
+        given(delegate.getEdgeNodeTeamId("node-1")).willThrow(unavailable).willReturn("team-1");
+
+        // when & then
+        assertSame(notMember, assertThrows(FeignException.class, () -> client.getMemberRole("team-1", "outsider")));
+        assertSame(notMember, assertThrows(FeignException.class, () -> client.getMemberRole("team-1", "outsider")));
+        verify(delegate, times(1)).getMemberRole("team-1", "outsider");
+
+        assertThrows(FeignException.ServiceUnavailable.class, () -> client.getEdgeNodeTeamId("node-1"));
+        assertEquals("team-1", client.getEdgeNodeTeamId("node-1"));
+        verify(delegate, times(2)).getEdgeNodeTeamId("node-1");
+    }
+}
@@ -0,0 +1,120 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.entity.PendingBlob;
+import horizon.SeRVe.core.repository.ArtifactRepository;
+import horizon.SeRVe.core.repository.EncryptedDataRepository;
+import horizon.SeRVe.core.repository.PendingBlobRepository;
+import horizon.SeRVe.core.repository.VectorDemoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlobGarbageCollectorTest {
+
+    @Mock private PendingBlobRepository pendingBlobRepository;
+    @Mock private EncryptedDataRepository encryptedDataRepository;
+    @Mock private VectorDemoRepository vectorDemoRepository;
+    @Mock private ArtifactRepository artifactRepository;
+    @Mock private S3StorageService s3StorageService;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlobGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        collector = new BlobGarbageCollector(pendingBlobRepository, encryptedDataRepository,
+                vectorDemoRepository, artifactRepository, s3StorageService, transactionTemplate,
+                meterRegistry, Duration.ofHours(1), 1000, 5, 3, Duration.ZERO, Duration.ofMinutes(10));
+
+        given(transactionTemplate.execute(any()))
+                .willAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+    }
+
+    private PendingBlob pending(String objectKey, int attempts) {
+        return PendingBlob.builder()
+                .pendingId("pending-" + objectKey)
+                .teamId("team-1")
+                .objectKey(objectKey)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    @DisplayName("참조 중인 키는 건너뛰고 나머지는 DeleteObjects 한 번으로 삭제, 실패 키만 lease를 풀어 재등록")
+    void collectBatch_DeletesOrphansInOneRequest() {
+        // given
+        List<PendingBlob> stale = List.of(pending("k-referenced", 0), pending("k-orphan", 0), pending("k-failing", 0));
+        given(pendingBlobRepository.findClaimable(any(), any(), any())).willReturn(stale);
+        given(encryptedDataRepository.findReferencedObjectKeys(any())).willReturn(List.of("k-referenced"));
+        given(s3StorageService.deleteAll(List.of("k-orphan", "k-failing"))).willReturn(List.of("k-failing"));
+
+        // when
+        int claimed = collector.collectBatch();
+
+        // then
+        assertEquals(3, claimed);
+        ArgumentCaptor<String> leaseId = ArgumentCaptor.forClass(String.class);
+        verify(pendingBlobRepository).lease(eq(List.of("pending-k-referenced", "pending-k-orphan", "pending-k-failing")),
+                leaseId.capture(), any());
+        verify(s3StorageService, times(1)).deleteAll(any());
+        verify(pendingBlobRepository).requeueLeased(eq(List.of("pending-k-failing")), eq(leaseId.getValue()), any());
+        verify(pendingBlobRepository).deleteLeased(List.of("pending-k-referenced", "pending-k-orphan"), leaseId.getValue());
+
+        assertEquals(1.0, meterRegistry.counter("serve.storage.gc.objects", "result", "deleted").count());
+    }
+
+    @Test
+    @DisplayName("요청 단위 실패는 재시도 후 성공하면 재등록하지 않음")
+    void collectBatch_RetriesTransientFailure() {
+        // given
+        List<PendingBlob> stale = List.of(pending("k-orphan", 0));
+        given(pendingBlobRepository.findClaimable(any(), any(), any())).willReturn(stale);
+        given(s3StorageService.deleteAll(List.of("k-orphan")))
+                .willThrow(new RuntimeException("SlowDown"))
+                .willReturn(List.of());
+
+        // when
+        collector.collectBatch();
+
+        // then
+        verify(s3StorageService, times(2)).deleteAll(List.of("k-orphan"));
+        verify(pendingBlobRepository, never()).requeueLeased(any(), any(), any());
+        verify(pendingBlobRepository).deleteLeased(eq(List.of("pending-k-orphan")), any());
+    }
+
+    @Test
+    @DisplayName("회수 후 처리 중 예외가 나면 레코드를 지우지 않고 lease 만료 후 다시 회수되도록 남김")
+    void collectBatch_KeepsLeasedRecordsOnFailure() {
+        // given
+        List<PendingBlob> stale = List.of(pending("k-orphan", 0));
+        given(pendingBlobRepository.findClaimable(any(), any(), any())).willReturn(stale);
+        given(encryptedDataRepository.findReferencedObjectKeys(any())).willThrow(new RuntimeException("DB down"));
+
+        // when
+        assertThrows(RuntimeException.class, () -> collector.collectBatch());
+
+        // then
+        verify(pendingBlobRepository).lease(eq(List.of("pending-k-orphan")), any(), any());
+        verify(s3StorageService, never()).deleteAll(any());
+        verify(pendingBlobRepository, never()).deleteLeased(any(), any());
+    }
+}
@@ -0,0 +1,61 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.repository.TeamChangeSequenceRepository;
+import horizon.SeRVe.core.service.ChangeSequenceService.SyncCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeSequenceServiceTest {
+
+    @InjectMocks
+    private ChangeSequenceService changeSequenceService;
+
+    @Mock private TeamChangeSequenceRepository teamChangeSequenceRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("동기화 커서 - lastSeq가 있으면 폐기된 파라미터보다 우선")
+    void syncCursor_LastSeqWins() {
+        // when
+        SyncCursor cursor = changeSequenceService.syncCursor("team-1", 12L, "lastSyncVersion", 3);
+
+        // then
+        assertFalse(cursor.isLegacy());
+        assertEquals(12L, cursor.seq());
+    }
+
+    @Test
+    @DisplayName("동기화 커서 - 파라미터가 없으면 seq 0부터 전체")
+    void syncCursor_NoParamsIsFullSync() {
+        // when
+        SyncCursor cursor = changeSequenceService.syncCursor("team-1", null, "lastSyncVersion", null);
+
+        // then
+        assertFalse(cursor.isLegacy());
+        assertEquals(0L, cursor.seq());
+    }
+
+    @Test
+    @DisplayName("동기화 커서 - lastSeq 없이 폐기된 파라미터만 보내면 기존 version 필터 유지 (반복 폴링도 동일)")
+    void syncCursor_LegacyVersionKeepsVersionFilter() {
+        // when
+        SyncCursor first = changeSequenceService.syncCursor("team-1", null, "lastSyncVersion", 3);
+        SyncCursor repeated = changeSequenceService.syncCursor("team-1", null, "lastSyncVersion", 4);
+
+        // then
+        assertTrue(first.isLegacy());
+        assertEquals(3, first.legacyVersion());
+        assertTrue(repeated.isLegacy());
+        assertEquals(4, repeated.legacyVersion());
+    }
+}
@@ -0,0 +1,99 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.dto.presign.PresignedUrlBatchRequest;
+import horizon.SeRVe.core.dto.presign.PresignedUrlBatchResponse;
+import horizon.SeRVe.core.entity.Artifact;
+import horizon.SeRVe.core.entity.EncryptedData;
+import horizon.SeRVe.core.entity.Task;
+import horizon.SeRVe.core.entity.VectorDemo;
+import horizon.SeRVe.core.repository.ArtifactRepository;
+import horizon.SeRVe.core.repository.TaskRepository;
+import horizon.SeRVe.core.repository.VectorDemoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresignedUrlServiceTest {
+
+    @InjectMocks
+    private PresignedUrlService presignedUrlService;
+
+    @Mock private TaskService taskService;
+    @Mock private TaskRepository taskRepository;
+    @Mock private VectorDemoRepository vectorDemoRepository;
+    @Mock private ArtifactRepository artifactRepository;
+    @Mock private S3StorageService s3StorageService;
+
+    @Test
+    @DisplayName("Presigned URL 일괄 발급 - 권한 확인 1회, 팀 소속이 아닌 ID는 notFound")
+    void getPresignedUrls_AuthorizesOnceAndReportsMissing() {
+        // given
+        String teamId = "team-1";
+        Task task = Task.builder().taskId("task-1").teamId(teamId).build();
+        task.setEncryptedData(EncryptedData.builder()
+                .dataId("data-1").task(task).teamId(teamId).objectKey("team-1/task-1/task/rev/a.bin").build());
+        VectorDemo demo = VectorDemo.builder()
+                .demoId("demo-1").taskId("task-1").teamId(teamId).objectKey("team-1/task-1/demo/rev/d.enc").build();
+
+        given(taskRepository.findAllWithDataByTeamIdAndTaskIdIn(teamId, Set.of("task-1", "task-other")))
+                .willReturn(List.of(task));
+        given(vectorDemoRepository.findByTeamIdAndDemoIdInAndIsDeletedFalse(teamId, Set.of("demo-1")))
+                .willReturn(List.of(demo));
+        given(s3StorageService.generatePresignedUrl(anyString()))
+                .willAnswer(inv -> "https://s3/" + inv.getArgument(0));
+
+        PresignedUrlBatchRequest request = new PresignedUrlBatchRequest(
+                List.of("task-1", "task-other", "task-1"), List.of("demo-1"), null);
+
+        // when
+        PresignedUrlBatchResponse response = presignedUrlService.getPresignedUrls(teamId, "robot-1", request);
+
+        // then
+        verify(taskService, times(1)).checkTeamReadPermission(teamId, "robot-1");
+        assertEquals(1, response.getTasks().size());
+        assertEquals("https://s3/team-1/task-1/task/rev/a.bin", response.getTasks().get(0).getPresignedUrl());
+        assertEquals("demo-1", response.getDemos().get(0).getId());
+        assertTrue(response.getArtifacts().isEmpty());
+        assertEquals(List.of("task-other"), response.getNotFound());
+        verifyNoInteractions(artifactRepository);
+    }
+
+    @Test
+    @DisplayName("Presigned URL 일괄 발급 - 다른 팀 Artifact ID는 URL을 발급하지 않고 notFound")
+    void getPresignedUrls_ArtifactsScopedToTeam() {
+        // given
+        String teamId = "team-1";
+        Artifact own = Artifact.builder().artifactId("artifact-1").objectKey("team-1/scn/demo/a.enc").build();
+        given(artifactRepository.findByArtifactIdInAndObjectKeyStartingWith(
+                Set.of("artifact-1", "artifact-other-team"), "team-1/"))
+                .willReturn(List.of(own));
+        given(s3StorageService.generatePresignedUrl(anyString()))
+                .willAnswer(inv -> "https://s3/" + inv.getArgument(0));
+
+        PresignedUrlBatchRequest request = new PresignedUrlBatchRequest(
+                null, null, List.of("artifact-1", "artifact-other-team"));
+
+        // when
+        PresignedUrlBatchResponse response = presignedUrlService.getPresignedUrls(teamId, "robot-1", request);
+
+        // then
+        assertEquals(1, response.getArtifacts().size());
+        assertEquals("https://s3/team-1/scn/demo/a.enc", response.getArtifacts().get(0).getPresignedUrl());
+        assertEquals(List.of("artifact-other-team"), response.getNotFound());
+        verify(artifactRepository, never()).findAllById(any());
+        verify(s3StorageService, times(1)).generatePresignedUrl(anyString());
+    }
+}
@@ -0,0 +1,72 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.storage.BlobStore;
+import horizon.SeRVe.core.storage.PresignedUrl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3StorageServiceTest {
+
+    @Mock private BlobStore blobStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3StorageService s3StorageService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        s3StorageService = new S3StorageService(blobStore, meterRegistry,
+                Duration.ofMinutes(15), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("Presigned URL 캐시 - 남은 유효 시간이 충분하면 서명 없이 재사용")
+    void generatePresignedUrl_ReusesWhileValid() {
+        // given
+        PresignedUrl presigned = new PresignedUrl("https://s3/obj?sig=1", Instant.now().plus(Duration.ofMinutes(15)));
+        given(blobStore.presignGet(anyString(), any(Duration.class))).willReturn(presigned);
+
+        // when
+        String first = s3StorageService.generatePresignedUrl("team-1/task-1/task/rev/a.bin");
+        String second = s3StorageService.generatePresignedUrl("team-1/task-1/task/rev/a.bin");
+
+        // then
+        assertEquals(first, second);
+        verify(blobStore, times(1)).presignGet(anyString(), any(Duration.class));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "s3.presign").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Presigned URL 캐시 - 남은 유효 시간이 margin 이하면 새로 서명")
+    void generatePresignedUrl_ResignsNearExpiry() {
+        // given - 서명 직후 이미 만료 임박 (예: 임시 자격 증명 만료로 유효 시간이 짧아진 경우)
+        PresignedUrl expiring = new PresignedUrl("https://s3/obj?sig=1", Instant.now().plus(Duration.ofMinutes(2)));
+        PresignedUrl fresh = new PresignedUrl("https://s3/obj?sig=2", Instant.now().plus(Duration.ofMinutes(15)));
+        given(blobStore.presignGet(anyString(), any(Duration.class))).willReturn(expiring, fresh);
+
+        // when
+        String first = s3StorageService.generatePresignedUrl("team-1/task-1/task/rev/a.bin");
+        String second = s3StorageService.generatePresignedUrl("team-1/task-1/task/rev/a.bin");
+
+        // then
+        assertEquals("https://s3/obj?sig=1", first);
+        assertEquals("https://s3/obj?sig=2", second);
+        verify(blobStore, times(2)).presignGet(anyString(), any(Duration.class));
+    }
+}
@@ -0,0 +1,266 @@
+package horizon.SeRVe.core.service;
+
+import horizon.SeRVe.core.entity.TeamChangeSequence;
+import horizon.SeRVe.core.repository.TeamChangeSequenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncNotificationServiceTest {
+
+    @Mock private TeamChangeSequenceRepository teamChangeSequenceRepository;
+    @Mock private TaskService taskService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile boolean brokenEmitters;
+
+    private SyncNotificationService syncNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        syncNotificationService = new SyncNotificationService(teamChangeSequenceRepository, taskService,
+                meterRegistry, Duration.ofMinutes(5), 1, false) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitter.failSend = brokenEmitters;
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncNotificationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 - 팀 읽기 권한이 없으면 거부, 구독자로 등록하지 않음")
+    void subscribe_Fail_NoReadPermission() {
+        // given
+        willThrow(new SecurityException("팀 멤버 또는 팀 로봇이 아닙니다."))
+                .given(taskService).checkTeamReadPermission("team-1", "outsider");
+
+        // when & then
+        assertThrows(SecurityException.class,
+                () -> syncNotificationService.subscribe("team-1", "outsider", 0L));
+        assertTrue(emitters.isEmpty());
+        assertEquals(0, subscriberCount());
+        verifyNoInteractions(teamChangeSequenceRepository);
+    }
+
+    @Test
+    @DisplayName("구독 - 팀 시퀀스가 이미 lastSeq보다 크면 즉시 change 이벤트 전송")
+    void subscribe_SendsImmediatelyWhenBehind() {
+        // given
+        given(teamChangeSequenceRepository.findById("team-1"))
+                .willReturn(Optional.of(TeamChangeSequence.builder().teamId("team-1").lastSeq(5).build()));
+
+        // when
+        syncNotificationService.subscribe("team-1", "robot-1", 3L);
+
+        // then
+        verify(taskService).checkTeamReadPermission("team-1", "robot-1");
+        assertEquals(List.of(new TeamChangedEvent("team-1", 5)), emitters.get(0).events);
+        assertEquals(1, subscriberCount());
+    }
+
+    @Test
+    @DisplayName("알림 - 커밋된 변경만 해당 팀 구독자에게 전달, 롤백된 변경은 전달하지 않음")
+    void onTeamChanged_DeliveredOnlyAfterCommit() throws Exception {
+        // given
+        syncNotificationService.subscribe("team-1", "robot-1", 0L);
+        syncNotificationService.subscribe("team-2", "robot-2", 0L);
+        RecordingEmitter team1 = emitters.get(0);
+        RecordingEmitter team2 = emitters.get(1);
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(TransactionalEventConfig.class);
+            context.registerBean("syncNotificationService", SyncNotificationService.class,
+                    () -> syncNotificationService);
+            context.registerBean(PlatformTransactionManager.class, NoOpTransactionManager::new);
+            context.refresh();
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            // when - 롤백된 트랜잭션
+            transactionTemplate.executeWithoutResult(status -> {
+                context.publishEvent(new TeamChangedEvent("team-1", 6));
+                status.setRollbackOnly();
+            });
+            // when - 커밋된 트랜잭션 (커밋 전에는 전달되지 않음)
+            transactionTemplate.executeWithoutResult(status -> {
+                context.publishEvent(new TeamChangedEvent("team-1", 7));
+                assertTrue(team1.events.isEmpty());
+            });
+
+            // then
+            assertTrue(team1.delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(new TeamChangedEvent("team-1", 7)), team1.events);
+            assertTrue(team2.events.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("정리 - 타임아웃된 구독은 해제되어 이후 알림 대상에서 제외")
+    void subscription_RemovedOnTimeout() {
+        // given
+        syncNotificationService.subscribe("team-1", "robot-1", 0L);
+        RecordingEmitter emitter = emitters.get(0);
+
+        // when
+        emitter.timeoutCallback.run();
+        syncNotificationService.onTeamChanged(new TeamChangedEvent("team-1", 1));
+
+        // then
+        assertTrue(emitter.completed);
+        assertEquals(0, subscriberCount());
+        assertTrue(emitter.events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("정리 - 컨테이너가 감지한 연결 오류로 구독 해제, 이어지는 완료 콜백에서 중복 해제 없음")
+    void subscription_RemovedOnError() {
+        // given
+        syncNotificationService.subscribe("team-1", "robot-1", 0L);
+        syncNotificationService.subscribe("team-1", "robot-2", 0L);
+        RecordingEmitter emitter = emitters.get(0);
+
+        // when
+        emitter.errorCallback.accept(new IOException("connection reset"));
+        emitter.completionCallback.run();
+
+        // then
+        assertEquals(1, subscriberCount());
+    }
+
+    @Test
+    @DisplayName("정리 - 전송 실패한 구독은 오류로 완료되어 해제")
+    void subscription_RemovedWhenSendFails() {
+        // given
+        given(teamChangeSequenceRepository.findById("team-1"))
+                .willReturn(Optional.of(TeamChangeSequence.builder().teamId("team-1").lastSeq(2).build()));
+        brokenEmitters = true;
+
+        // when
+        syncNotificationService.subscribe("team-1", "robot-1", 0L);
+
+        // then
+        assertTrue(emitters.get(0).completed);
+        assertEquals(0, subscriberCount());
+    }
+
+    private double subscriberCount() {
+        return meterRegistry.get("serve.sync.subscribers").gauge().value();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionalEventConfig {
+    }
+
+    // 실제 자원 없이 커밋/롤백 후 동기화 콜백만 실행하는 트랜잭션 매니저
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    // 서블릿 컨테이너 대신 전송 내용과 콜백을 기록하는 emitter
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<TeamChangedEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(1);
+        volatile boolean failSend;
+        volatile boolean completed;
+        Runnable timeoutCallback;
+        Consumer<Throwable> errorCallback;
+        Runnable completionCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failSend) {
+                throw new IOException("broken pipe");
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(TeamChangedEvent.class::isInstance)
+                    .map(TeamChangedEvent.class::cast)
+                    .forEach(events::add);
+            delivered.countDown();
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            this.timeoutCallback = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            this.errorCallback = callback;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        // 컨테이너와 같이 완료 시 완료 콜백 실행
+        @Override
+        public void complete() {
+            completed = true;
+            completionCallback.run();
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            errorCallback.accept(ex);
+            complete();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package horizon.SeRVe.core.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import horizon.SeRVe.core.dto.sync.ChangedTaskResponse;
+import horizon.SeRVe.core.feign.TeamServiceClient;
+import horizon.SeRVe.core.repository.EncryptedDataRepository;
+import horizon.SeRVe.core.repository.VectorDemoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SyncService syncService;
+
+    @Mock private EncryptedDataRepository encryptedDataRepository;
+    @Mock private VectorDemoRepository vectorDemoRepository;
+    @Mock private ChangeSequenceService changeSequenceService;
+    @Mock private TeamServiceClient teamServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(encryptedDataRepository, vectorDemoRepository,
+                changeSequenceService, teamServiceClient, objectMapper, new Jackson2ObjectMapperBuilder());
+    }
+
+    @Test
+    @DisplayName("동기화 델타 - lastSeq 이후 변경분만 조회해 ChangedTaskResponse JSON 배열로 기록")
+    void writeChangedTasks_JsonArrayAfterLastSeq() throws Exception {
+        // given
+        String teamId = "team-1";
+        ChangedTaskResponse changed = ChangedTaskResponse.builder()
+                .taskId("task-1").fileName("a.bin").fileType("bin").version(2).seq(8L).uploaderId("user-1").build();
+        given(encryptedDataRepository.findChangedTasks(eq(teamId), eq(7L), isNull(), any()))
+                .willReturn(List.of(changed));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        syncService.writeChangedTasks(teamId, 7L, false, out);
+
+        // then
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertTrue(body.isArray());
+        assertEquals(1, body.size());
+        JsonNode task = body.get(0);
+        assertEquals("task-1", task.get("taskId").asText());
+        assertEquals("a.bin", task.get("fileName").asText());
+        assertEquals("bin", task.get("fileType").asText());
+        assertEquals(2, task.get("version").asInt());
+        assertEquals(8L, task.get("seq").asLong());
+        assertEquals("user-1", task.get("uploaderId").asText());
+        verify(encryptedDataRepository, times(1)).findChangedTasks(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동기화 델타 - 가득 찬 페이지 뒤에는 마지막 (seq, taskId) 다음부터 이어서 조회")
+    void writeChangedTasks_ContinuesFromLastRowOfFullPage() throws Exception {
+        // given
+        String teamId = "team-1";
+        List<ChangedTaskResponse> firstPage = new ArrayList<>();
+        IntStream.range(0, SyncService.PAGE_SIZE).forEach(i -> firstPage.add(ChangedTaskResponse.builder()
+                .taskId(String.format("task-%04d", i)).seq(5L).build()));
+        ChangedTaskResponse tail = ChangedTaskResponse.builder().taskId("task-9999").seq(6L).build();
+
+        given(encryptedDataRepository.findChangedTasks(eq(teamId), eq(0L), isNull(), any()))
+                .willReturn(firstPage);
+        String lastTaskId = firstPage.get(firstPage.size() - 1).getTaskId();
+        given(encryptedDataRepository.findChangedTasks(eq(teamId), eq(5L), eq(lastTaskId), any()))
+                .willReturn(List.of(tail));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        syncService.writeChangedTasks(teamId, 0L, false, out);
+
+        // then
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertEquals(SyncService.PAGE_SIZE + 1, body.size());
+        assertEquals("task-9999", body.get(SyncService.PAGE_SIZE).get("taskId").asText());
+        verify(encryptedDataRepository, times(2)).findChangedTasks(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동기화 델타 - 변경분이 없으면 빈 배열")
+    void writeChangedTasks_EmptyArray() throws Exception {
+        // given
+        given(encryptedDataRepository.findChangedTasks(eq("team-1"), eq(42L), isNull(), any()))
+                .willReturn(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        syncService.writeChangedTasks("team-1", 42L, false, out);
+
+        // then
+        assertEquals("[]", out.toString());
+    }
+
+    @Test
+    @DisplayName("폐기된 lastSyncVersion - 기존 version 필터로 조회")
+    void writeChangedTasksSinceVersion_UsesVersionFilter() throws Exception {
+        // given
+        ChangedTaskResponse changed = ChangedTaskResponse.builder().taskId("task-1").version(4).seq(9L).build();
+        given(encryptedDataRepository.findChangedTasksSinceVersion(eq("team-1"), eq(3), isNull(), any()))
+                .willReturn(List.of(changed));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        syncService.writeChangedTasksSinceVersion("team-1", 3, false, out);
+
+        // then
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertEquals(1, body.size());
+        assertEquals(9L, body.get(0).get("seq").asLong());
+        verify(encryptedDataRepository, never()).findChangedTasks(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("시작 시 백필 - team_id 채움, change_seq 없는 팀마다 seq 하나를 태스크/데모에 부여")
+    void backfillSyncColumns_StampsOneSeqPerTeam() {
+        // given
+        given(encryptedDataRepository.backfillTeamId()).willReturn(2);
+        given(encryptedDataRepository.findTeamIdsWithoutChangeSeq()).willReturn(List.of("team-b", "team-a"));
+        given(vectorDemoRepository.findTeamIdsWithoutChangeSeq()).willReturn(List.of("team-a", "team-c"));
+        given(changeSequenceService.next("team-a")).willReturn(5L);
+        given(changeSequenceService.next("team-b")).willReturn(7L);
+        given(changeSequenceService.next("team-c")).willReturn(1L);
+
+        // when
+        syncService.backfillSyncColumns();
+
+        // then
+        verify(changeSequenceService, times(1)).next("team-a");
+        verify(encryptedDataRepository).backfillChangeSeq("team-a", 5L);
+        verify(vectorDemoRepository).backfillChangeSeq("team-a", 5L);
+        verify(encryptedDataRepository).backfillChangeSeq("team-b", 7L);
+        verify(vectorDemoRepository).backfillChangeSeq("team-b", 7L);
+        verify(encryptedDataRepository).backfillChangeSeq("team-c", 1L);
+        verify(vectorDemoRepository).backfillChangeSeq("team-c", 1L);
+    }
+
+    @Test
+    @DisplayName("시작 시 백필 - 이미 채워져 있으면 seq를 발급하지 않음")
+    void backfillSyncColumns_NothingToDo() {
+        // given
+        given(encryptedDataRepository.backfillTeamId()).willReturn(0);
+        given(encryptedDataRepository.findTeamIdsWithoutChangeSeq()).willReturn(List.of());
+        given(vectorDemoRepository.findTeamIdsWithoutChangeSeq()).willReturn(List.of());
+
+        // when
+        syncService.backfillSyncColumns();
+
+        // then
+        verifyNoInteractions(changeSequenceService);
+        verify(encryptedDataRepository, never()).backfillChangeSeq(any(), anyLong());
+    }
+}
@@ -1,27 +1,45 @@
 package horizon.SeRVe.core.service;
 
-import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
+import horizon.SeRVe.common.security.jwt.JwtPrincipal;
+import horizon.SeRVe.core.dto.task.BatchUploadTaskRequest;
+import horizon.SeRVe.core.dto.task.BatchUploadTaskResponse;
+import horizon.SeRVe.core.dto.task.BatchUploadTaskResult;
+import horizon.SeRVe.core.dto.task.TaskCommitRequest;
+import horizon.SeRVe.core.dto.task.TaskPageResponse;
 import horizon.SeRVe.core.dto.task.TaskResponse;
 import horizon.SeRVe.core.dto.task.EncryptedDataResponse;
 import horizon.SeRVe.core.dto.task.UploadTaskRequest;
 import horizon.SeRVe.core.entity.*;
-import horizon.SeRVe.core.feign.AuthServiceClient;
 import horizon.SeRVe.core.feign.TeamServiceClient;
 import horizon.SeRVe.core.repository.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -35,8 +53,23 @@ class TaskServiceTest {
     @Mock private EncryptedDataRepository encryptedDataRepository;
     @Mock private VectorDemoRepository vectorDemoRepository;
     @Mock private TeamServiceClient teamServiceClient;
-    @Mock private AuthServiceClient authServiceClient;
     @Mock private S3StorageService s3StorageService;
+    @Mock private BlobReconciliationService blobReconciliationService;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private StoredBlobService storedBlobService;
+    @Mock private ChangeSequenceService changeSequenceService;
+
+    // TransactionTemplate은 콜백을 그대로 실행
+    private void runTransactionCallbacks() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+    }
+
+    // 중복 콘텐츠가 없으면 후보 objectKey를 그대로 사용
+    private void acquireCandidateKeys() {
+        given(storedBlobService.acquire(anyString(), anyString(), anyString()))
+                .willAnswer(inv -> inv.getArgument(2));
+    }
 
     @Test
     @DisplayName("태스크 업로드 성공 테스트")
@@ -47,22 +80,216 @@ class TaskServiceTest {
         String sampleBase64 = Base64.getEncoder().encodeToString("test-content".getBytes());
         UploadTaskRequest request = new UploadTaskRequest("test.pdf", "pdf", sampleBase64);
 
-        MemberRoleResponse memberRole = MemberRoleResponse.builder()
-                .userId(userId).teamId(teamId).role("ADMIN").build();
+        TeamAccessResponse access = TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("ADMIN").build();
 
-        given(teamServiceClient.teamExists(teamId)).willReturn(true);
-        given(teamServiceClient.getMemberRole(teamId, userId)).willReturn(memberRole);
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(access);
         given(s3StorageService.generateObjectKey(anyString(), anyString(), anyString(), anyString()))
                 .willReturn("team-1/task-uuid/task/test.pdf");
         given(s3StorageService.upload(anyString(), any(byte[].class)))
                 .willReturn("team-1/task-uuid/task/test.pdf");
+        given(changeSequenceService.next(teamId)).willReturn(7L);
+        runTransactionCallbacks();
+        acquireCandidateKeys();
 
         // when
         taskService.uploadTask(teamId, userId, request);
 
+        // then - pending 등록 → S3 업로드 → 메타데이터 커밋 시 pending 해제
+        InOrder inOrder = inOrder(blobReconciliationService, s3StorageService, taskRepository);
+        inOrder.verify(blobReconciliationService).register(teamId, List.of("team-1/task-uuid/task/test.pdf"));
+        inOrder.verify(s3StorageService).upload(anyString(), any(byte[].class));
+        inOrder.verify(taskRepository).save(any(Task.class));
+        inOrder.verify(blobReconciliationService).resolve(List.of("team-1/task-uuid/task/test.pdf"));
+
+        // 팀 변경 시퀀스가 기록되어야 동기화 대상이 됨
+        verify(taskRepository).save(argThat(task -> Long.valueOf(7L).equals(task.getEncryptedData().getChangeSeq())));
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 성공 테스트 - Base64 디코딩 없이 스트림 그대로 S3 전달")
+    void uploadTaskStream_Success() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+        byte[] content = "raw-encrypted-bytes".getBytes();
+        InputStream stream = new ByteArrayInputStream(content);
+
+        TeamAccessResponse access = TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("ADMIN").build();
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(access);
+        given(s3StorageService.generateObjectKey(anyString(), anyString(), anyString(), anyString()))
+                .willReturn("team-1/task-uuid/task/test.bin");
+        runTransactionCallbacks();
+        acquireCandidateKeys();
+
+        // when
+        taskService.uploadTaskStream(teamId, userId, "test.bin", "application/octet-stream",
+                stream, content.length);
+
         // then
+        verify(s3StorageService, times(1))
+                .upload(eq("team-1/task-uuid/task/test.bin"), any(InputStream.class), eq((long) content.length));
+        verify(s3StorageService, never()).upload(anyString(), any(byte[].class));
         verify(taskRepository, times(1)).save(any(Task.class));
-        verify(s3StorageService, times(1)).upload(anyString(), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("동일 콘텐츠 재업로드 - 같은 팀에 이미 있으면 S3 PUT 생략하고 기존 오브젝트 공유")
+    void uploadTask_SkipsPutForDuplicateContent() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+        byte[] content = "test-content".getBytes();
+        UploadTaskRequest request = new UploadTaskRequest(
+                "copy.pdf", "pdf", Base64.getEncoder().encodeToString(content));
+
+        TeamAccessResponse access = TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("ADMIN").build();
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(access);
+        given(s3StorageService.generateObjectKey(anyString(), anyString(), anyString(), anyString()))
+                .willReturn("team-1/task-uuid/task/rev/copy.pdf");
+        given(storedBlobService.findObjectKey(teamId, StoredBlobService.hash(content)))
+                .willReturn(Optional.of("team-1/other-task/task/rev/original.pdf"));
+        given(storedBlobService.acquire(teamId, StoredBlobService.hash(content), "team-1/other-task/task/rev/original.pdf"))
+                .willReturn("team-1/other-task/task/rev/original.pdf");
+        runTransactionCallbacks();
+
+        // when
+        taskService.uploadTask(teamId, userId, request);
+
+        // then
+        verify(s3StorageService, never()).upload(anyString(), any(byte[].class));
+        verify(blobReconciliationService, never()).register(anyString(), any());
+        verify(blobReconciliationService, never()).resolve(any());
+        verify(taskRepository, times(1)).save(argThat(task ->
+                "team-1/other-task/task/rev/original.pdf".equals(task.getEncryptedData().getObjectKey())));
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 권한 확인 1회, 항목별 결과 반환")
+    void uploadTasks_ReportsPerItemResults() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+        String blob = Base64.getEncoder().encodeToString("content-a".getBytes());
+        BatchUploadTaskRequest request = new BatchUploadTaskRequest(List.of(
+                new UploadTaskRequest("a.bin", "bin", blob),
+                new UploadTaskRequest("b.bin", "bin", "not base64!"),
+                new UploadTaskRequest("a.bin", "bin", blob)));
+
+        TeamAccessResponse access = TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("ADMIN").build();
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(access);
+        given(s3StorageService.generateObjectKey(anyString(), anyString(), anyString(), anyString()))
+                .willReturn("team-1/task-uuid/task/rev/a.bin");
+        given(s3StorageService.uploadAsync(anyString(), any(byte[].class)))
+                .willReturn(CompletableFuture.completedFuture("team-1/task-uuid/task/rev/a.bin"));
+        runTransactionCallbacks();
+        acquireCandidateKeys();
+
+        // when
+        BatchUploadTaskResponse response = taskService.uploadTasks(teamId, userId, request);
+
+        // then
+        List<BatchUploadTaskResult> results = response.getResults();
+        assertEquals(BatchUploadTaskResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(BatchUploadTaskResult.Status.FAILED, results.get(1).getStatus());
+        assertEquals(BatchUploadTaskResult.Status.FAILED, results.get(2).getStatus());
+        verify(teamServiceClient, times(1)).checkAccess(teamId, userId);
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(blobReconciliationService).resolve(List.of("team-1/task-uuid/task/rev/a.bin"));
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 항목이 없거나 총 크기 상한을 넘으면 디코딩/권한 확인 전에 거부")
+    void uploadTasks_Fail_ExceedsLimits() {
+        // given
+        String oversized = "A".repeat((int) (TaskService.MAX_BATCH_BYTES / 3 * 4) + 4);
+        BatchUploadTaskRequest empty = new BatchUploadTaskRequest(null);
+        BatchUploadTaskRequest tooLarge = new BatchUploadTaskRequest(List.of(
+                new UploadTaskRequest("a.bin", "bin", oversized)));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> taskService.uploadTasks("team-1", "user-1", empty));
+        assertThrows(IllegalArgumentException.class, () -> taskService.uploadTasks("team-1", "user-1", tooLarge));
+        verify(teamServiceClient, never()).checkAccess(anyString(), anyString());
+        verify(s3StorageService, never()).uploadAsync(anyString(), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 커밋 실패 - 다른 태스크 경로의 objectKey")
+    void commitTaskUpload_Fail_ForeignObjectKey() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+        TaskCommitRequest request = new TaskCommitRequest(
+                "task-1", "test.bin", "application/octet-stream", "team-2/task-9/task/rev/test.bin");
+
+        TeamAccessResponse access = TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("ADMIN").build();
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(access);
+        given(s3StorageService.objectKeyPrefix(teamId, "task-1", "task")).willReturn("team-1/task-1/task/");
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.commitTaskUpload(teamId, userId, request));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 커밋 실패 - fileName으로 찾은 태스크와 taskId가 다름")
+    void commitTaskUpload_Fail_TaskIdFileNameMismatch() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+        TaskCommitRequest request = new TaskCommitRequest(
+                "task-1", "other.bin", "application/octet-stream", "team-1/task-1/task/rev/test.bin");
+        Task other = Task.builder().taskId("task-2").teamId(teamId).originalFileName("other.bin").build();
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("ADMIN").build());
+        given(s3StorageService.objectKeyPrefix(teamId, "task-1", "task")).willReturn("team-1/task-1/task/");
+        given(s3StorageService.exists(request.getObjectKey())).willReturn(true);
+        given(taskRepository.findByTeamIdAndOriginalFileName(teamId, "other.bin")).willReturn(Optional.of(other));
+        runTransactionCallbacks();
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.commitTaskUpload(teamId, userId, request));
+        verify(storedBlobService, never()).acquire(any(), any(), any());
+        verify(blobReconciliationService, never()).resolve(any());
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 커밋 - 이미 커밋된 같은 objectKey 재커밋은 변경 없이 성공")
+    void commitTaskUpload_RepeatIsIdempotent() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+        String objectKey = "team-1/task-1/task/rev/test.bin";
+        TaskCommitRequest request = new TaskCommitRequest("task-1", "test.bin", "application/octet-stream", objectKey);
+        Task task = Task.builder().taskId("task-1").teamId(teamId).originalFileName("test.bin").build();
+        task.setEncryptedData(EncryptedData.builder()
+                .dataId("data-1").task(task).teamId(teamId).objectKey(objectKey).changeSeq(3L).build());
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("ADMIN").build());
+        given(s3StorageService.objectKeyPrefix(teamId, "task-1", "task")).willReturn("team-1/task-1/task/");
+        given(s3StorageService.exists(objectKey)).willReturn(true);
+        given(taskRepository.findByTeamIdAndOriginalFileName(teamId, "test.bin")).willReturn(Optional.of(task));
+        runTransactionCallbacks();
+
+        // when
+        assertDoesNotThrow(() -> taskService.commitTaskUpload(teamId, userId, request));
+
+        // then
+        verify(blobReconciliationService, never()).resolve(any());
+        verify(changeSequenceService, never()).next(anyString());
     }
 
     @Test
@@ -79,17 +306,71 @@ class TaskServiceTest {
                 .uploaderId("uploader-1")
                 .build();
 
-        given(teamServiceClient.teamExists(teamId)).willReturn(true);
-        given(teamServiceClient.memberExists(teamId, userId)).willReturn(true);
-        given(taskRepository.findAllByTeamId(teamId)).willReturn(List.of(task1));
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("MEMBER").build());
+        given(taskRepository.findPageByTeamId(eq(teamId), isNull(), isNull(), isNull(), isNull(), any()))
+                .willReturn(List.of(task1));
 
         // when
-        List<TaskResponse> result = taskService.getTasks(teamId, userId);
+        TaskPageResponse page = taskService.getTasks(teamId, userId, null, 50, null, null);
 
         // then
+        List<TaskResponse> result = page.getItems();
         assertEquals(1, result.size());
         assertEquals("file1.pdf", result.get(0).getFileName());
         assertEquals("uploader-1", result.get(0).getUploaderId());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("태스크 목록 조회 - cursor/size 없는 기존 호출은 전체 목록 배열 반환")
+    void getAllTasks_LegacyArray() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+
+        Task task1 = Task.builder().id(2L).taskId("task-2").originalFileName("file2.pdf").build();
+        Task task2 = Task.builder().id(1L).taskId("task-1").originalFileName("file1.pdf").build();
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("MEMBER").build());
+        given(taskRepository.findPageByTeamId(eq(teamId), isNull(), isNull(), isNull(), isNull(), eq(Pageable.unpaged())))
+                .willReturn(List.of(task1, task2));
+
+        // when
+        List<TaskResponse> result = taskService.getAllTasks(teamId, userId, null, null);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals("file2.pdf", result.get(0).getFileName());
+        assertEquals("file1.pdf", result.get(1).getFileName());
+    }
+
+    @Test
+    @DisplayName("태스크 목록 조회 - 다음 페이지가 있으면 마지막 항목 기준 커서 반환, 커서로 이어서 조회")
+    void getTasks_KeysetCursor() {
+        // given
+        String teamId = "team-1";
+        String userId = "user-1";
+        LocalDateTime uploadedAt = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123456000);
+
+        Task newer = Task.builder().id(11L).taskId("task-11").uploadedAt(uploadedAt.plusSeconds(1)).build();
+        Task older = Task.builder().id(10L).taskId("task-10").uploadedAt(uploadedAt).build();
+        Task extra = Task.builder().id(9L).taskId("task-9").uploadedAt(uploadedAt).build();
+
+        given(teamServiceClient.checkAccess(teamId, userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("MEMBER").build());
+        given(taskRepository.findPageByTeamId(eq(teamId), isNull(), isNull(), isNull(), isNull(), any()))
+                .willReturn(List.of(newer, older, extra));
+
+        // when
+        TaskPageResponse first = taskService.getTasks(teamId, userId, null, 2, null, null);
+        taskService.getTasks(teamId, userId, first.getNextCursor(), 2, null, null);
+
+        // then
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+        verify(taskRepository).findPageByTeamId(eq(teamId), isNull(), isNull(), eq(uploadedAt), eq(10L), any());
     }
 
     @Test
@@ -111,8 +392,8 @@ class TaskServiceTest {
                 .build();
 
         given(taskRepository.findByTaskId(taskId)).willReturn(Optional.of(mockTask));
-        given(authServiceClient.userExists(userId)).willReturn(true);
-        given(teamServiceClient.memberExists("team-1", userId)).willReturn(true);
+        given(teamServiceClient.checkAccess("team-1", userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.USER).role("MEMBER").build());
         given(encryptedDataRepository.findByTask(mockTask)).willReturn(Optional.of(mockData));
 
         // when
@@ -136,10 +417,65 @@ class TaskServiceTest {
                 .build();
 
         given(taskRepository.findByTaskId(taskId)).willReturn(Optional.of(mockTask));
-        given(authServiceClient.userExists(userId)).willReturn(true);
-        given(teamServiceClient.memberExists("team-1", userId)).willReturn(false);
+        given(teamServiceClient.checkAccess("team-1", userId)).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).build());
 
         // when & then
         assertThrows(SecurityException.class, () -> taskService.getData(taskId, userId));
     }
+
+    @Test
+    @DisplayName("로봇 토큰 - claim의 teamId가 다르면 Team 조회 없이 거부, 같으면 현재 등록 여부를 Team 접근 판정으로 확인")
+    void getData_EdgeNodeChecksCurrentRegistration() {
+        // given
+        Task ownTeamTask = Task.builder().taskId("task-1").teamId("team-1").build();
+        Task otherTeamTask = Task.builder().taskId("task-2").teamId("team-2").build();
+        EncryptedData mockData = EncryptedData.builder()
+                .dataId("data-1").task(ownTeamTask).objectKey("team-1/task-1/task/file.enc").build();
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("node-1", null, List.of());
+        authentication.setDetails(new JwtPrincipal("node-1", "SN-001", JwtPrincipal.EDGE_NODE, "team-1"));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        given(taskRepository.findByTaskId("task-1")).willReturn(Optional.of(ownTeamTask));
+        given(taskRepository.findByTaskId("task-2")).willReturn(Optional.of(otherTeamTask));
+        given(encryptedDataRepository.findByTask(ownTeamTask)).willReturn(Optional.of(mockData));
+        given(teamServiceClient.checkAccess("team-1", "node-1")).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).principalType(TeamAccessResponse.EDGE_NODE).build());
+
+        try {
+            // when & then
+            assertEquals("team-1/task-1/task/file.enc", taskService.getData("task-1", "node-1").getObjectKey());
+            assertThrows(SecurityException.class, () -> taskService.getData("task-2", "node-1"));
+            verify(teamServiceClient, times(1)).checkAccess("team-1", "node-1");
+            verify(teamServiceClient, never()).checkAccess(eq("team-2"), anyString());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("로봇 토큰 - 팀에서 해제된 로봇은 토큰이 유효해도 거부")
+    void getData_Fail_RevokedEdgeNode() {
+        // given
+        Task task = Task.builder().taskId("task-1").teamId("team-1").build();
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("node-1", null, List.of());
+        authentication.setDetails(new JwtPrincipal("node-1", "SN-001", JwtPrincipal.EDGE_NODE, "team-1"));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        given(taskRepository.findByTaskId("task-1")).willReturn(Optional.of(task));
+        given(teamServiceClient.checkAccess("team-1", "node-1")).willReturn(TeamAccessResponse.builder()
+                .teamExists(true).build());
+
+        try {
+            // when & then
+            assertThrows(SecurityException.class, () -> taskService.getData("task-1", "node-1"));
+            verify(encryptedDataRepository, never()).findByTask(any());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package horizon.SeRVe.core.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalBlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalBlobStore(root, "http://localhost:8083/", "secret".getBytes(StandardCharsets.UTF_8),
+                Runnable::run);
+    }
+
+    private Map<String, String> query(String url) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : URI.create(url).getRawQuery().split("&")) {
+            String[] kv = pair.split("=", 2);
+            params.put(kv[0], URLDecoder.decode(kv[1], StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    @Test
+    @DisplayName("스트림 업로드 후 원자적으로 게시되고 transferTo로 동일하게 읽힘, 임시 파일은 남지 않음")
+    void put_PublishesAtomicallyAndTransfersBack() throws Exception {
+        byte[] content = "encrypted-demo-bytes".getBytes();
+
+        store.put("team-1/task-1/demo/rev/demo_0.enc", new ByteArrayInputStream(content), content.length);
+
+        assertTrue(store.exists("team-1/task-1/demo/rev/demo_0.enc"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(content.length, store.transferTo("team-1/task-1/demo/rev/demo_0.enc", Channels.newChannel(out)));
+        assertArrayEquals(content, out.toByteArray());
+        try (var temp = Files.list(root.resolve(".tmp"))) {
+            assertEquals(0, temp.count());
+        }
+
+        assertEquals(List.of(), store.deleteAll(List.of("team-1/task-1/demo/rev/demo_0.enc", "team-1/missing")));
+        assertFalse(store.exists("team-1/task-1/demo/rev/demo_0.enc"));
+    }
+
+    @Test
+    @DisplayName("길이가 맞지 않는 업로드는 게시되지 않음, 루트 밖을 가리키는 키는 거부")
+    void put_RejectsTruncatedUploadAndTraversal() {
+        assertThrows(RuntimeException.class, () ->
+                store.put("team-1/task-1/task/rev/a.bin", new ByteArrayInputStream(new byte[3]), 10));
+        assertFalse(store.exists("team-1/task-1/task/rev/a.bin"));
+
+        assertThrows(IllegalArgumentException.class, () -> store.put("../outside.bin", new byte[1]));
+        assertThrows(IllegalArgumentException.class, () -> store.presignGet("team-1/../../etc/passwd", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("presigned URL 서명은 메서드/키/만료 시각에 묶임")
+    void presign_SignatureBoundToMethodAndKey() {
+        PresignedUrl presigned = store.presignGet("team-1/task-1/task/rev/a b.bin", Duration.ofMinutes(5));
+        Map<String, String> params = query(presigned.url());
+
+        assertTrue(presigned.url().startsWith("http://localhost:8083" + LocalBlobStore.OBJECT_PATH + "?"));
+        assertEquals("team-1/task-1/task/rev/a b.bin", params.get("key"));
+        long expires = Long.parseLong(params.get("expires"));
+        assertTrue(store.verify("GET", params.get("key"), expires, params.get("signature")));
+        assertFalse(store.verify("PUT", params.get("key"), expires, params.get("signature")));
+        assertFalse(store.verify("GET", "team-1/other", expires, params.get("signature")));
+        assertFalse(store.verify("GET", params.get("key"), expires + 60, params.get("signature")));
+    }
+}
@@ -0,0 +1,109 @@
+package horizon.SeRVe.core.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartUploaderTest {
+
+    @TempDir
+    Path root;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("파트 단위로 나눠 병렬 업로드 후 원본과 동일하게 합쳐짐")
+    void upload_SplitsIntoPartsAndReassembles() throws Exception {
+        byte[] content = "0123456789abcdefghij-last".getBytes();
+        CountingBackend backend = new CountingBackend(new LocalMultipartUploadBackend(root), 0);
+        MultipartUploader uploader = new MultipartUploader(backend, executor, 8, 3, 0, 1);
+
+        uploader.upload("team-1/task-1/task/file.enc", new ByteArrayInputStream(content));
+
+        assertEquals(4, backend.partCalls.get());
+        assertArrayEquals(content, Files.readAllBytes(root.resolve("team-1/task-1/task/file.enc")));
+    }
+
+    @Test
+    @DisplayName("일시적으로 실패한 파트만 재시도하여 업로드 성공")
+    void upload_RetriesFailedPart() throws Exception {
+        byte[] content = "0123456789abcdef".getBytes();
+        CountingBackend backend = new CountingBackend(new LocalMultipartUploadBackend(root), 1);
+        MultipartUploader uploader = new MultipartUploader(backend, executor, 8, 2, 2, 1);
+
+        uploader.upload("key", new ByteArrayInputStream(content));
+
+        assertEquals(3, backend.partCalls.get());
+        assertArrayEquals(content, Files.readAllBytes(root.resolve("key")));
+    }
+
+    @Test
+    @DisplayName("재시도 횟수 초과 시 업로드 abort 및 예외 발생")
+    void upload_AbortsWhenRetriesExhausted() throws Exception {
+        CountingBackend backend = new CountingBackend(new LocalMultipartUploadBackend(root), Integer.MAX_VALUE);
+        MultipartUploader uploader = new MultipartUploader(backend, executor, 8, 2, 1, 1);
+
+        assertThrows(IllegalStateException.class,
+                () -> uploader.upload("key", new ByteArrayInputStream(new byte[20])));
+
+        assertEquals(1, backend.abortCalls.get());
+        assertFalse(Files.exists(root.resolve("key")));
+        try (var uploads = Files.list(root.resolve(".uploads"))) {
+            assertEquals(0, uploads.count());
+        }
+    }
+
+    // 처음 failures번의 uploadPart 호출을 실패시키는 래퍼
+    private static class CountingBackend implements MultipartUploadBackend {
+        private final MultipartUploadBackend delegate;
+        private final AtomicInteger remainingFailures;
+        private final AtomicInteger partCalls = new AtomicInteger();
+        private final AtomicInteger abortCalls = new AtomicInteger();
+
+        CountingBackend(MultipartUploadBackend delegate, int failures) {
+            this.delegate = delegate;
+            this.remainingFailures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public String createUpload(String objectKey) {
+            return delegate.createUpload(objectKey);
+        }
+
+        @Override
+        public String uploadPart(String objectKey, String uploadId, int partNumber, byte[] data) {
+            partCalls.incrementAndGet();
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("simulated network error");
+            }
+            return delegate.uploadPart(objectKey, uploadId, partNumber, data);
+        }
+
+        @Override
+        public void completeUpload(String objectKey, String uploadId, List<UploadedPart> parts) {
+            delegate.completeUpload(objectKey, uploadId, parts);
+        }
+
+        @Override
+        public void abortUpload(String objectKey, String uploadId) {
+            abortCalls.incrementAndGet();
+            delegate.abortUpload(objectKey, uploadId);
+        }
+    }
+}
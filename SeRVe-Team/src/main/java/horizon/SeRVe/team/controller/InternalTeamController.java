@@ -2,6 +2,7 @@ package horizon.SeRVe.team.controller;
 
 import horizon.SeRVe.common.dto.feign.EdgeNodeAuthResponse;
 import horizon.SeRVe.common.dto.feign.MemberRoleResponse;
+import horizon.SeRVe.common.dto.feign.TeamAccessResponse;
 import horizon.SeRVe.team.entity.EdgeNode;
 import horizon.SeRVe.team.entity.RepositoryMember;
 import horizon.SeRVe.team.entity.Team;
@@ -61,6 +62,23 @@ public class InternalTeamController {
         return ResponseEntity.ok(memberRepository.existsByTeamAndUserId(team, userId));
     }
 
+    // 접근 판정 (Core 권한 체크용) - 팀 존재, 주체 유형(User/EdgeNode), 멤버 역할을 한 번의 쿼리로
+    // 팀이 없거나 팀과 무관한 주체도 예외 없이 결과로 응답
+    @GetMapping("/teams/{teamId}/access/{principalId}")
+    public ResponseEntity<TeamAccessResponse> checkAccess(
+            @PathVariable String teamId,
+            @PathVariable String principalId) {
+        TeamAccessResponse response = teamRepository.findAccess(teamId, principalId)
+                .map(access -> TeamAccessResponse.builder()
+                        .teamExists(true)
+                        .principalType(access.getRole() != null ? TeamAccessResponse.USER
+                                : access.getEdgeNodeId() != null ? TeamAccessResponse.EDGE_NODE : null)
+                        .role(access.getRole() != null ? access.getRole().name() : null)
+                        .build())
+                .orElseGet(() -> TeamAccessResponse.builder().teamExists(false).build());
+        return ResponseEntity.ok(response);
+    }
+
     // EdgeNode 시리얼 번호로 조회 (Auth 서비스의 로봇 로그인에서 사용)
     @GetMapping("/edge-nodes/by-serial/{serialNumber}")
     public ResponseEntity<EdgeNodeAuthResponse> getEdgeNodeBySerial(@PathVariable String serialNumber) {
@@ -4,6 +4,10 @@ import horizon.SeRVe.common.dto.feign.UserInfoResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 @FeignClient(name = "serve-auth", url = "${service.auth.url}")
 public interface AuthServiceClient {
@@ -11,6 +15,10 @@ public interface AuthServiceClient {
     @GetMapping("/internal/users/{userId}")
     UserInfoResponse getUserInfo(@PathVariable String userId);
 
+    // 존재하는 사용자만 반환 (순서 보장 없음), 최대 UserEmailLookup.MAX_BATCH_SIZE명 - UserEmailLookup.findEmails로 호출
+    @PostMapping("/internal/users/batch")
+    List<UserInfoResponse> getUserInfos(@RequestBody List<String> userIds);
+
     @GetMapping("/internal/users/by-email/{email}")
     UserInfoResponse getUserByEmail(@PathVariable String email);
 
@@ -1,7 +1,10 @@
 package horizon.SeRVe.team.repository;
 
+import horizon.SeRVe.team.entity.Role;
 import horizon.SeRVe.team.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +13,17 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     Optional<Team> findByName(String name);
     List<Team> findAllByOwnerId(String ownerId);
     Optional<Team> findByTeamId(String teamId);
+
+    // 접근 판정 단일 쿼리: 행이 없으면 팀 없음, role은 멤버일 때, edgeNodeId는 팀에 등록된 로봇일 때만 채워짐
+    @Query("select m.role as role, e.nodeId as edgeNodeId from Team t "
+            + "left join RepositoryMember m on m.team = t and m.userId = :principalId "
+            + "left join EdgeNode e on e.team = t and e.nodeId = :principalId "
+            + "where t.teamId = :teamId")
+    Optional<TeamAccessView> findAccess(@Param("teamId") String teamId, @Param("principalId") String principalId);
+
+    interface TeamAccessView {
+        Role getRole();
+
+        String getEdgeNodeId();
+    }
 }
@@ -1,6 +1,7 @@
 package horizon.SeRVe.team.service;
 
 import horizon.SeRVe.common.dto.feign.UserInfoResponse;
+import horizon.SeRVe.common.feign.UserEmailLookup;
 import horizon.SeRVe.team.dto.member.InviteMemberRequest;
 import horizon.SeRVe.team.dto.member.MemberKickResponse;
 import horizon.SeRVe.team.dto.member.MemberResponse;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -71,16 +73,12 @@ public class MemberService {
             throw new SecurityException("저장소 멤버가 아닙니다.");
         }
 
-        return memberRepository.findAllByTeam(team).stream()
-                .map(member -> {
-                    String email;
-                    try {
-                        email = authServiceClient.getUserInfo(member.getUserId()).getEmail();
-                    } catch (Exception e) {
-                        email = "Unknown";
-                    }
-                    return MemberResponse.from(member, email);
-                })
+        List<RepositoryMember> members = memberRepository.findAllByTeam(team);
+        Map<String, String> emails = UserEmailLookup.findEmails(authServiceClient::getUserInfos,
+                members.stream().map(RepositoryMember::getUserId).toList());
+
+        return members.stream()
+                .map(member -> MemberResponse.from(member, emails.getOrDefault(member.getUserId(), "Unknown")))
                 .collect(Collectors.toList());
     }
 
@@ -1,5 +1,6 @@
 package horizon.SeRVe.team.service;
 
+import horizon.SeRVe.common.feign.UserEmailLookup;
 import horizon.SeRVe.team.dto.repo.RepoResponse;
 import horizon.SeRVe.team.entity.*;
 import horizon.SeRVe.team.feign.AuthServiceClient;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,16 +51,16 @@ public class RepoService {
     // 내 저장소 목록 조회
     @Transactional(readOnly = true)
     public List<RepoResponse> getMyRepos(String userId) {
-        return memberRepository.findAllByUserId(userId).stream()
+        List<RepositoryMember> memberships = memberRepository.findAllByUserId(userId);
+        Map<String, String> ownerEmails = UserEmailLookup.findEmails(authServiceClient::getUserInfos, memberships.stream()
+                .map(member -> member.getTeam().getOwnerId())
+                .toList());
+
+        return memberships.stream()
                 .map(member -> {
                     Team team = member.getTeam();
-                    String ownerEmail;
-                    try {
-                        ownerEmail = authServiceClient.getUserInfo(team.getOwnerId()).getEmail();
-                    } catch (Exception e) {
-                        ownerEmail = "Unknown";
-                    }
-                    return RepoResponse.of(team, ownerEmail, member.getRole());
+                    return RepoResponse.of(team, ownerEmails.getOrDefault(team.getOwnerId(), "Unknown"),
+                            member.getRole());
                 })
                 .collect(Collectors.toList());
     }
@@ -1,5 +1,7 @@
 package horizon.SeRVe.team.service;
 
+import horizon.SeRVe.common.dto.feign.UserInfoResponse;
+import horizon.SeRVe.team.dto.member.MemberResponse;
 import horizon.SeRVe.team.dto.member.UpdateRoleRequest;
 import horizon.SeRVe.team.entity.*;
 import horizon.SeRVe.team.feign.AuthServiceClient;
@@ -12,11 +14,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -79,4 +86,63 @@ class MemberServiceTest {
 
         assertEquals("저장소 소유자(Owner)는 강퇴할 수 없습니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("멤버 목록 조회는 멤버 수와 무관하게 Auth 일괄 조회를 한 번만 호출한다")
+    void getMembers_FetchesEmailsInSingleBatch() {
+        // 1. [상황 설정]
+        String teamId = "team-1";
+        Team mockTeam = new Team("My Team", "Desc", "user-1");
+        mockTeam.setTeamId(teamId);
+
+        List<RepositoryMember> members = List.of(
+                RepositoryMember.builder().team(mockTeam).userId("user-1").role(Role.ADMIN).build(),
+                RepositoryMember.builder().team(mockTeam).userId("user-2").role(Role.MEMBER).build(),
+                RepositoryMember.builder().team(mockTeam).userId("user-3").role(Role.MEMBER).build());
+
+        // 2. [가짜 DB/Auth 동작 정의] - user-3은 Auth에 없음
+        given(teamRepository.findByTeamId(teamId)).willReturn(Optional.of(mockTeam));
+        given(memberRepository.existsByTeamAndUserId(mockTeam, "user-1")).willReturn(true);
+        given(memberRepository.findAllByTeam(mockTeam)).willReturn(members);
+        given(authServiceClient.getUserInfos(List.of("user-1", "user-2", "user-3"))).willReturn(List.of(
+                UserInfoResponse.builder().userId("user-1").email("one@serve.io").build(),
+                UserInfoResponse.builder().userId("user-2").email("two@serve.io").build()));
+
+        // 3. [실행]
+        List<MemberResponse> responses = memberService.getMembers(teamId, "user-1");
+
+        // 4. [검증]
+        assertEquals(List.of("one@serve.io", "two@serve.io", "Unknown"),
+                responses.stream().map(MemberResponse::getEmail).toList());
+        verify(authServiceClient, times(1)).getUserInfos(List.of("user-1", "user-2", "user-3"));
+        verify(authServiceClient, never()).getUserInfo(anyString());
+    }
+
+    @Test
+    @DisplayName("이메일이 없는 사용자만 Unknown으로 표시하고 나머지 멤버 이메일은 그대로 반환한다")
+    void getMembers_ToleratesMissingEmail() {
+        // 1. [상황 설정]
+        String teamId = "team-1";
+        Team mockTeam = new Team("My Team", "Desc", "user-1");
+        mockTeam.setTeamId(teamId);
+
+        List<RepositoryMember> members = List.of(
+                RepositoryMember.builder().team(mockTeam).userId("user-1").role(Role.ADMIN).build(),
+                RepositoryMember.builder().team(mockTeam).userId("user-2").role(Role.MEMBER).build());
+
+        // 2. [가짜 DB/Auth 동작 정의] - user-2는 이메일이 null
+        given(teamRepository.findByTeamId(teamId)).willReturn(Optional.of(mockTeam));
+        given(memberRepository.existsByTeamAndUserId(mockTeam, "user-1")).willReturn(true);
+        given(memberRepository.findAllByTeam(mockTeam)).willReturn(members);
+        given(authServiceClient.getUserInfos(List.of("user-1", "user-2"))).willReturn(List.of(
+                UserInfoResponse.builder().userId("user-1").email("one@serve.io").build(),
+                UserInfoResponse.builder().userId("user-2").build()));
+
+        // 3. [실행]
+        List<MemberResponse> responses = memberService.getMembers(teamId, "user-1");
+
+        // 4. [검증]
+        assertEquals(List.of("one@serve.io", "Unknown"),
+                responses.stream().map(MemberResponse::getEmail).toList());
+    }
 }
@@ -78,10 +78,10 @@ export default function () {
   if (uploadRes.status !== 200) errorCount.add(1);
 
   // Task 목록 조회
-  const tasksRes = http.get(`${BASE_URL}/api/teams/${teamId}/tasks`, { headers });
+  const tasksRes = http.get(`${BASE_URL}/api/teams/${teamId}/tasks?size=50`, { headers });
   check(tasksRes, { 'tasks list 200': (r) => r.status === 200 });
 
-  const tasks = tasksRes.json();
+  const tasks = (tasksRes.json() || {}).items;
   if (tasks && tasks.length > 0) {
     // Task 다운로드 (objectKey 반환)
     const taskId = tasks[0].id;
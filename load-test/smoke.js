@@ -62,10 +62,10 @@ export default function () {
   check(uploadRes, { 'POST /api/teams/{id}/tasks 200': (r) => r.status === 200 });
 
   // 4. Task 목록 조회
-  const tasksRes = http.get(`${BASE_URL}/api/teams/${teamId}/tasks`, { headers });
+  const tasksRes = http.get(`${BASE_URL}/api/teams/${teamId}/tasks?size=50`, { headers });
   check(tasksRes, { 'GET /api/teams/{id}/tasks 200': (r) => r.status === 200 });
 
-  const tasks = tasksRes.json();
+  const tasks = (tasksRes.json() || {}).items;
   if (tasks && tasks.length > 0) {
     // 5. Task 다운로드
     const taskId = tasks[0].id;
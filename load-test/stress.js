@@ -77,10 +77,10 @@ export default function () {
   if (!uploadOk) { errorRate.add(1); errorCount.add(1); }
 
   // Task 목록 + 다운로드
-  const tasksRes = http.get(`${BASE_URL}/api/teams/${teamId}/tasks`, { headers });
+  const tasksRes = http.get(`${BASE_URL}/api/teams/${teamId}/tasks?size=50`, { headers });
   check(tasksRes, { 'tasks 200': (r) => r.status === 200 });
 
-  const tasks = tasksRes.json();
+  const tasks = (tasksRes.json() || {}).items;
   if (tasks && tasks.length > 0) {
     const downloadRes = http.get(`${BASE_URL}/api/tasks/${tasks[0].id}/data`, { headers });
     const dlOk = check(downloadRes, { 'download 200': (r) => r.status === 200 });